@@ -0,0 +1,54 @@
+package com.rewardapp.rewardconfig;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.rewardapp.rewardcontroller.RewardAdmissionInterceptor;
+import com.rewardapp.rewardservice.RewardRowEstimator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers admission control for the rewards API, configured under rewards.admission.
+ */
+@Configuration
+@EnableScheduling
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "rewards.admission", name = "enabled", matchIfMissing = true)
+public class AdmissionConfig {
+
+	@Bean
+	public RewardAdmissionInterceptor rewardAdmissionInterceptor(RewardRowEstimator rowEstimator,
+			MeterRegistry meterRegistry,
+			@Value("${rewards.admission.client-header:X-Client-Id}") String clientHeader,
+			@Value("${rewards.admission.trusted-proxies:}") String trustedProxies,
+			@Value("${rewards.admission.rate.capacity:40}") int bucketCapacity,
+			@Value("${rewards.admission.rate.refill-per-second:20}") double refillPerSecond,
+			@Value("${rewards.admission.rate.max-tracked-clients:10000}") int maxTrackedClients,
+			@Value("${rewards.admission.max-range-days:366}") long maxRangeDays,
+			@Value("${rewards.admission.max-estimated-rows:500000}") long maxEstimatedRows,
+			@Value("${rewards.admission.all-customers.max-concurrent:4}") int maxConcurrentAllCustomers) {
+		return new RewardAdmissionInterceptor(rowEstimator, meterRegistry, clientHeader,
+				Set.of(StringUtils.tokenizeToStringArray(trustedProxies, ",")), bucketCapacity,
+				refillPerSecond, maxTrackedClients, maxRangeDays, maxEstimatedRows, maxConcurrentAllCustomers);
+	}
+
+	@Bean
+	public WebMvcConfigurer rewardAdmissionConfigurer(RewardAdmissionInterceptor interceptor) {
+		return new WebMvcConfigurer() {
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addInterceptor(interceptor).addPathPatterns("/api/rewards", "/api/rewards/**");
+			}
+		};
+	}
+}
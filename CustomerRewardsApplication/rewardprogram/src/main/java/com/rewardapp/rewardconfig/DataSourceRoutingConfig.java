@@ -0,0 +1,67 @@
+package com.rewardapp.rewardconfig;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits database traffic between the MySQL primary and a read replica.
+ *
+ * Only active when rewards.datasource.replica.jdbc-url is set. Read-only
+ * transactions (the reward queries in RewardServiceImpl) are served by the
+ * replica pool, everything else, including transaction ingest, goes to the
+ * primary. Both pools are registered as beans so their Hikari metrics
+ * (hikaricp.connections.active/pending/max) are published per pool name.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "rewards.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("rewards-primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("rewards.datasource.replica")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+		dataSource.setPoolName("rewards-replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	/*
+	 * The lazy proxy defers fetching a physical connection until the first
+	 * statement, by which point the transaction manager has marked the connection
+	 * read-only, so the proxy can pick the replica pool for it.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica) {
+		logger.info("Routing read-only transactions to the read replica pool");
+		LazyConnectionDataSourceProxy routingDataSource = new LazyConnectionDataSourceProxy(primary);
+		routingDataSource.setReadOnlyDataSource(replica);
+		return routingDataSource;
+	}
+}
@@ -0,0 +1,40 @@
+package com.rewardapp.rewardconfig;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.rewardapp.rewardservice.RewardMaterializationJob;
+
+/**
+ * Enables the nightly reward materialization job and gives it a small,
+ * low-priority worker pool separate from the request threads.
+ */
+@Configuration
+@EnableScheduling
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "rewards.materialization", name = "enabled", matchIfMissing = true)
+public class MaterializationConfig {
+
+	@Bean
+	public ThreadPoolTaskExecutor materializationExecutor(@Value("${rewards.materialization.workers:2}") int workers) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workers);
+		executor.setMaxPoolSize(workers);
+		executor.setThreadPriority(Thread.MIN_PRIORITY);
+		executor.setThreadNamePrefix("reward-materializer-");
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		return executor;
+	}
+
+	/* Nothing injects the job, so with lazy initialization (faststart profile) its schedule would never be registered */
+	@Bean
+	static LazyInitializationExcludeFilter materializationJobEagerInit() {
+		return LazyInitializationExcludeFilter.forBeanTypes(RewardMaterializationJob.class);
+	}
+}
@@ -0,0 +1,23 @@
+package com.rewardapp.rewardconfig;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JPA settings that apply whether or not the optional features are enabled.
+ */
+@Configuration
+@Profile("!reactive")
+public class PersistenceConfig {
+
+	/* With lazy initialization (faststart profile) the EntityManagerFactory, and so the ddl-auto=validate check,
+	   would only be built by the first request, a schema mismatch has to stop the instance at startup instead */
+	@Bean
+	static LazyInitializationExcludeFilter entityManagerFactoryEagerInit() {
+		return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class);
+	}
+}
@@ -0,0 +1,78 @@
+package com.rewardapp.rewardcontroller;
+
+import com.rewardapp.rewardexception.InvalidDateFormatException;
+import com.rewardapp.rewardexception.InvalidDateRangeException;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardservice.ReactiveRewardService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Non-blocking REST controller for reward lookups, active with the reactive profile.
+ * Serves the same GET endpoints as RewardController on WebFlux.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/rewards")
+public class ReactiveRewardController {
+
+	private final ReactiveRewardService service;
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRewardController.class);
+
+	public ReactiveRewardController(ReactiveRewardService service) {
+		this.service = service;
+	}
+
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	public Flux<RewardSummary> getAllCustomerRewards(@RequestParam String startDate, @RequestParam String endDate) {
+
+		LocalDate start = parseDate(startDate, "startDate");
+		LocalDate end = parseDate(endDate, "endDate");
+		validateDateRange(start, end);
+
+		logger.info("Streaming reward data for all customers between {} and {}", start, end);
+		return service.getAllCustomerRewards(start, end);
+	}
+
+	@GetMapping("/{customer}")
+	public Mono<RewardSummary> getSpecificCustomerRewards(@PathVariable String customer,
+			@RequestParam String startDate, @RequestParam String endDate) {
+
+		LocalDate start = parseDate(startDate, "startDate");
+		LocalDate end = parseDate(endDate, "endDate");
+		validateDateRange(start, end);
+
+		logger.info("Fetching reward data for customer '{}' between {} and {}", customer, start, end);
+		return service.getSpecificCustomerRewards(customer, start, end);
+	}
+
+	private LocalDate parseDate(String dateStr, String paramName) {
+		try {
+			return LocalDate.parse(dateStr);
+		} catch (DateTimeParseException e) {
+			logger.error("Invalid date format for {}: {}", paramName, dateStr);
+			throw new InvalidDateFormatException(
+					"Invalid format for '" + paramName + "': " + dateStr + ". Expected format: yyyy-MM-dd");
+		}
+	}
+
+	private void validateDateRange(LocalDate start, LocalDate end) {
+		if (start == null || end == null) {
+			throw new InvalidDateRangeException("Start and end dates must be provided.");
+		}
+		if (start.isAfter(end)) {
+			throw new InvalidDateRangeException("Start date must not be after end date.");
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package com.rewardapp.rewardcontroller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.rewardapp.rewardexception.AdmissionRejectedException;
+import com.rewardapp.rewardservice.RewardRowEstimator;
+import com.rewardapp.rewardutil.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control in front of RewardController.
+ *
+ * Checks, in order: a token bucket per client key, the span of the requested
+ * date range, the estimated number of rows the query would load, and a cap on
+ * concurrent all-customers requests. A request over any limit is rejected
+ * before it reaches the service, with 429 and Retry-After. The batch endpoint
+ * carries its range in the body, so RewardController calls checkBatch once it is read.
+ *
+ * At most maxTrackedClients buckets are kept. Idle (full) buckets are swept on a
+ * timer; while the limit is reached, clients without a bucket share one overflow
+ * bucket, so a caller spread over many addresses cannot grow the map or make a
+ * request do more than constant work.
+ */
+public class RewardAdmissionInterceptor implements HandlerInterceptor {
+
+	private static final Logger logger = LoggerFactory.getLogger(RewardAdmissionInterceptor.class);
+
+	private static final String ALL_CUSTOMERS_PATTERN = "/api/rewards";
+	private static final String PERMIT_ATTRIBUTE = RewardAdmissionInterceptor.class.getName() + ".permit";
+	/* Oversized queries will not succeed on retry as-is; this only slows down clients that loop */
+	private static final long OVERSIZED_RETRY_AFTER_SECONDS = 60;
+
+	private final RewardRowEstimator rowEstimator;
+	private final String clientHeader;
+	private final Set<String> trustedProxies;
+	private final int bucketCapacity;
+	private final double refillPerSecond;
+	private final int maxTrackedClients;
+	private final long maxRangeDays;
+	private final long maxEstimatedRows;
+	private final Semaphore allCustomersPermits;
+
+	private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+	/* Buckets in the map plus ones being added, the cap is checked against this */
+	private final AtomicInteger trackedClients = new AtomicInteger();
+	private final TokenBucket overflowBucket;
+
+	private final Counter admitted;
+	private final Counter rejectedRate;
+	private final Counter rejectedRange;
+	private final Counter rejectedRows;
+	private final Counter rejectedConcurrency;
+
+	public RewardAdmissionInterceptor(RewardRowEstimator rowEstimator, MeterRegistry meterRegistry,
+			String clientHeader, Set<String> trustedProxies, int bucketCapacity, double refillPerSecond, int maxTrackedClients, long maxRangeDays,
+			long maxEstimatedRows, int maxConcurrentAllCustomers) {
+		this.rowEstimator = rowEstimator;
+		this.clientHeader = clientHeader;
+		this.trustedProxies = trustedProxies;
+		this.bucketCapacity = bucketCapacity;
+		this.refillPerSecond = refillPerSecond;
+		this.maxTrackedClients = maxTrackedClients;
+		this.maxRangeDays = maxRangeDays;
+		this.maxEstimatedRows = maxEstimatedRows;
+		this.allCustomersPermits = new Semaphore(maxConcurrentAllCustomers);
+		this.overflowBucket = new TokenBucket(bucketCapacity, refillPerSecond);
+
+		this.admitted = Counter.builder("rewards.admission.admitted").register(meterRegistry);
+		this.rejectedRate = rejectedCounter(meterRegistry, "rate");
+		this.rejectedRange = rejectedCounter(meterRegistry, "range");
+		this.rejectedRows = rejectedCounter(meterRegistry, "rows");
+		this.rejectedConcurrency = rejectedCounter(meterRegistry, "concurrency");
+		Gauge.builder("rewards.admission.all.in.flight", allCustomersPermits,
+				permits -> maxConcurrentAllCustomers - permits.availablePermits()).register(meterRegistry);
+		Gauge.builder("rewards.admission.clients", buckets, Map::size).register(meterRegistry);
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod)) {
+			return true;
+		}
+
+		String client = clientKey(request);
+		TokenBucket bucket = bucketFor(client);
+		if (!bucket.tryConsume()) {
+			rejectedRate.increment();
+			logger.warn("Rate limit exceeded for client '{}'", client);
+			throw new AdmissionRejectedException("rate", bucket.secondsUntilNextToken(),
+					"Rate limit exceeded, retry later.");
+		}
+
+		boolean allCustomers = ALL_CUSTOMERS_PATTERN
+				.equals(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+				&& "GET".equals(request.getMethod());
+		LocalDate start = parseDate(request.getParameter("startDate"));
+		LocalDate end = parseDate(request.getParameter("endDate"));
+		// malformed or inverted ranges are left to the controller's own validation
+		if (start != null && end != null && !start.isAfter(end)) {
+			checkRange(client, start, end);
+			checkEstimatedRows(client, allCustomers ? rowEstimator.estimateAllCustomers(start, end)
+					: rowEstimator.estimateCustomers(1, start, end));
+		}
+
+		if (allCustomers) {
+			if (!allCustomersPermits.tryAcquire()) {
+				rejectedConcurrency.increment();
+				logger.warn("Too many concurrent all-customer reward requests, rejecting client '{}'", client);
+				throw new AdmissionRejectedException("concurrency", 1,
+						"Too many concurrent requests for all customers, retry later.");
+			}
+			request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+		}
+
+		admitted.increment();
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+			request.removeAttribute(PERMIT_ATTRIBUTE);
+			allCustomersPermits.release();
+		}
+	}
+
+	/* Range and estimated-row limits for POST /batch, applied to its parsed body */
+	public void checkBatch(HttpServletRequest request, int customers, LocalDate start, LocalDate end) {
+		String client = clientKey(request);
+		checkRange(client, start, end);
+		checkEstimatedRows(client, rowEstimator.estimateCustomers(customers, start, end));
+	}
+
+	private void checkRange(String client, LocalDate start, LocalDate end) {
+		long days = ChronoUnit.DAYS.between(start, end) + 1;
+		if (days > maxRangeDays) {
+			rejectedRange.increment();
+			logger.warn("Date range of {} days from client '{}' exceeds limit of {}", days, client, maxRangeDays);
+			throw new AdmissionRejectedException("range", OVERSIZED_RETRY_AFTER_SECONDS,
+					"Date range of " + days + " days exceeds the limit of " + maxRangeDays + " days.");
+		}
+	}
+
+	private void checkEstimatedRows(String client, long estimated) {
+		if (estimated > maxEstimatedRows) {
+			rejectedRows.increment();
+			logger.warn("Estimated {} rows for client '{}' exceeds limit of {}", estimated, client, maxEstimatedRows);
+			throw new AdmissionRejectedException("rows", OVERSIZED_RETRY_AFTER_SECONDS,
+					"Request would read about " + estimated + " transactions, narrow the date range.");
+		}
+	}
+
+	/* A full bucket carries no state, dropping it only means the client gets a new full one */
+	@Scheduled(fixedDelayString = "${rewards.admission.rate.sweep-seconds:30}", timeUnit = TimeUnit.SECONDS)
+	public void evictIdleClients() {
+		int evicted = 0;
+		for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+			if (entry.getValue().isFull() && buckets.remove(entry.getKey(), entry.getValue())) {
+				trackedClients.decrementAndGet();
+				evicted++;
+			}
+		}
+		logger.debug("Evicted {} idle rate limit buckets, {} clients tracked", evicted, buckets.size());
+	}
+
+	private TokenBucket bucketFor(String client) {
+		TokenBucket bucket = buckets.get(client);
+		if (bucket != null) {
+			return bucket;
+		}
+		if (trackedClients.incrementAndGet() > maxTrackedClients) {
+			trackedClients.decrementAndGet();
+			return overflowBucket;
+		}
+		TokenBucket created = new TokenBucket(bucketCapacity, refillPerSecond);
+		bucket = buckets.putIfAbsent(client, created);
+		if (bucket != null) {
+			trackedClients.decrementAndGet();
+			return bucket;
+		}
+		return created;
+	}
+
+	/* The client header is only believed from a trusted proxy, otherwise a caller could pick a fresh bucket per request */
+	private String clientKey(HttpServletRequest request) {
+		String remoteAddress = request.getRemoteAddr();
+		if (trustedProxies.contains(remoteAddress)) {
+			String client = request.getHeader(clientHeader);
+			if (client != null && !client.isBlank()) {
+				return client;
+			}
+		}
+		return remoteAddress;
+	}
+
+	private static LocalDate parseDate(String value) {
+		try {
+			return value == null ? null : LocalDate.parse(value);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private static Counter rejectedCounter(MeterRegistry registry, String limit) {
+		return Counter.builder("rewards.admission.rejected").tag("limit", limit).register(registry);
+	}
+}
@@ -2,15 +2,19 @@ package com.rewardapp.rewardcontroller;
 
 import com.rewardapp.rewardexception.InvalidDateFormatException;
 import com.rewardapp.rewardexception.InvalidDateRangeException;
+import com.rewardapp.rewardprogrammodel.BatchRewardRequest;
+import com.rewardapp.rewardprogrammodel.BatchRewardSummary;
 import com.rewardapp.rewardprogrammodel.RewardSummary;
 import com.rewardapp.rewardprogrammodel.TransactionModel;
-import com.rewardapp.rewardservice.RewardServiceImpl;
+import com.rewardapp.rewardservice.RewardService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,13 +32,19 @@ import java.util.List;
 
 /**
  * REST controller for handling reward-related endpoints.
+ * Servlet stack, active unless the reactive profile is selected.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/rewards")
 public class RewardController {
 
 	@Autowired
-	private RewardServiceImpl service;
+	private RewardService service;
+
+	/* Absent when rewards.admission.enabled=false */
+	@Autowired(required = false)
+	private RewardAdmissionInterceptor admission;
 
 	private static final Logger logger = LoggerFactory.getLogger(RewardController.class);
 
@@ -84,6 +94,26 @@ public class RewardController {
 		return service.getSpecificCustomerRewards(customer, start, end);
 	}
 
+	@Operation(summary = "Get reward summaries for a list of customers", description = "Fetches reward data for several customers within one date range. Customers without transactions are listed in notFoundCustomers instead of failing the request.")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Successfully retrieved reward summaries"),
+			@ApiResponse(responseCode = "400", description = "Invalid customer list, date format or range", content = @Content(schema = @Schema(implementation = String.class))) })
+	@PostMapping("/batch")
+	public BatchRewardSummary getBatchCustomerRewards(
+			@Valid @RequestBody @Parameter(description = "Customer names and date range") BatchRewardRequest request,
+			HttpServletRequest httpRequest) {
+
+		LocalDate start = parseDate(request.getStartDate(), "startDate");
+		LocalDate end = parseDate(request.getEndDate(), "endDate");
+		validateDateRange(start, end);
+		if (admission != null) {
+			admission.checkBatch(httpRequest, request.getCustomerNames().size(), start, end);
+		}
+
+		logger.info("Fetching reward data for {} customers between {} and {}", request.getCustomerNames().size(), start,
+				end);
+		return service.getBatchCustomerRewards(request.getCustomerNames(), start, end);
+	}
+
 	private LocalDate parseDate(String dateStr, String paramName) {
 		try {
 			return LocalDate.parse(dateStr);
@@ -0,0 +1,38 @@
+package com.rewardapp.rewardentity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*Entity tracking materialization progress of one month: the last customer key written,
+so a restarted job resumes with the next chunk, and whether the month is complete.
+The lease names the instance currently materializing the month; the source row count and
+amount recorded on completion show whether transactions changed afterwards.*/
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "reward_materialization_checkpoints")
+public class MaterializationCheckpoint {
+
+	@Id
+	private String rewardMonth;
+	private String lastCustomerKey;
+	private boolean completed;
+	private LocalDateTime updatedAt;
+	private String leaseOwner;
+	private LocalDateTime leaseUntil;
+	private Long sourceRows;
+	private Double sourceAmount;
+
+	public MaterializationCheckpoint(String rewardMonth, String leaseOwner, LocalDateTime leaseUntil) {
+		this(rewardMonth, "", false, LocalDateTime.now(), leaseOwner, leaseUntil, null, null);
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.rewardapp.rewardentity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/*Entity holding a precomputed RewardSummary for one customer and one closed month,
+written by the nightly materialization job. customerKey is the lower-cased customer name.
+summaryJson holds every transaction of the customer-month, so it is a plain @Lob, which is LONGTEXT on MySQL
+(TEXT would stop at 64 KB).*/
+
+@Entity
+@Data
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "materialized_rewards", uniqueConstraints = @UniqueConstraint(columnNames = { "rewardMonth",
+		"customerKey" }), indexes = @Index(columnList = "customerKey"))
+public class MaterializedReward {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	@NonNull
+	private String rewardMonth;
+	@NonNull
+	private String customerKey;
+	@NonNull
+	private String customerName;
+	@NonNull
+	private Integer totalPoints;
+	@NonNull
+	@Lob
+	private String summaryJson;
+
+}
@@ -1,5 +1,6 @@
 package com.rewardapp.rewardexception;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,9 +16,12 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 	400 Bad Request response with a generic error message.
 	Invalid Date formats
 	Invalid input format 
-	Invalid rewards*/
+	Invalid rewards
+	Requests rejected by admission control (429 with Retry-After)
+	Servlet stack only, see ReactiveAPIExceptionHandler for the reactive profile*/
 
 @RestControllerAdvice
+@Profile("!reactive")
 public class APIExceptionHandler {
 
 	@ExceptionHandler(Exception.class)
@@ -59,6 +63,12 @@ public class APIExceptionHandler {
 				.body("Missing request parameter: " + ex.getParameterName());
 	}
 
+	@ExceptionHandler(AdmissionRejectedException.class)
+	public ResponseEntity<String> handleAdmissionRejected(AdmissionRejectedException ex) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(ex.getMessage());
+	}
+
 	@ExceptionHandler(RewardCalculationException.class)
 	public ResponseEntity<String> handleRewardError(RewardCalculationException ex) {
 		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
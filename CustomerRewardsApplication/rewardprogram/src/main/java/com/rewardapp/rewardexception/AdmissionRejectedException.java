@@ -0,0 +1,23 @@
+package com.rewardapp.rewardexception;
+
+/*This will handle when a request is over a rate, size or concurrency limit
+  and should be retried after retryAfterSeconds*/
+public class AdmissionRejectedException extends RuntimeException {
+
+	private final String limit;
+	private final long retryAfterSeconds;
+
+	public AdmissionRejectedException(String limit, long retryAfterSeconds, String message) {
+		super(message);
+		this.limit = limit;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public String getLimit() {
+		return limit;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
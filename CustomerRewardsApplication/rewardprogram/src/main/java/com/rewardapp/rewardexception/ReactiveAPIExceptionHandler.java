@@ -0,0 +1,55 @@
+package com.rewardapp.rewardexception;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/*Exception handler for the reactive profile.
+
+	Maps the same custom exceptions to the same status codes as APIExceptionHandler,
+	using WebFlux request types instead of servlet ones.*/
+
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveAPIExceptionHandler {
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<String> handleAll(Exception ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error: " + ex.getMessage());
+	}
+
+	@ExceptionHandler(ServerWebInputException.class)
+	public ResponseEntity<String> handleInputError(ServerWebInputException ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid input: " + ex.getReason());
+	}
+
+	@ExceptionHandler(CustomerNotFoundException.class)
+	public ResponseEntity<String> handleCustomerNF(CustomerNotFoundException ex) {
+		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+	}
+
+	@ExceptionHandler(InvalidDateFormatException.class)
+	public ResponseEntity<ErrorDetails> handleInvalidDateFormatException(InvalidDateFormatException ex,
+			ServerHttpRequest request) {
+
+		ErrorDetails errorDetails = new ErrorDetails(HttpStatus.BAD_REQUEST.value(), ex.getMessage(),
+				"uri=" + request.getPath().value());
+
+		return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(InvalidDateRangeException.class)
+	public ResponseEntity<String> handleInvalidDate(InvalidDateRangeException ex) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+	}
+
+	@ExceptionHandler(RewardCalculationException.class)
+	public ResponseEntity<String> handleRewardError(RewardCalculationException ex) {
+		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body("Reward calculation error: " + ex.getMessage());
+	}
+}
@@ -0,0 +1,28 @@
+package com.rewardapp.rewardprogrammodel;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request body for looking up rewards of several customers over one date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRewardRequest {
+	@NotEmpty(message = "At least one customer name is required")
+	@Size(max = 1000, message = "At most 1000 customers can be requested at once")
+	private List<@NotBlank(message = "Customer names must not be blank") String> customerNames;
+	@NotNull(message = "Start date is required")
+	private String startDate;
+	@NotNull(message = "End date is required")
+	private String endDate;
+
+}
@@ -0,0 +1,21 @@
+package com.rewardapp.rewardprogrammodel;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reward results for a batch lookup, keyed by customer name, along with the
+ * customers that had no transactions in the requested range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRewardSummary {
+	private Map<String, RewardSummary> rewards;
+	private List<String> notFoundCustomers;
+
+}
@@ -0,0 +1,7 @@
+package com.rewardapp.rewardprogrammodel;
+
+/**
+ * Row count and amount total of one calendar month, used to notice transactions added or changed after the month was materialized.
+ */
+public record MonthlyTransactionStats(int year, int month, long rowCount, double totalAmount) {
+}
@@ -0,0 +1,9 @@
+package com.rewardapp.rewardprogrammodel;
+
+import java.time.LocalDate;
+
+/**
+ * Table-wide transaction statistics used to estimate how many rows a reward query will read.
+ */
+public record TransactionStats(long rowCount, long customerCount, LocalDate firstDate, LocalDate lastDate) {
+}
@@ -0,0 +1,10 @@
+package com.rewardapp.rewardprogrammodel;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable read-only projection of a transaction row used by reward queries.
+ * Loaded directly from JPQL, so it is never tracked by the persistence context.
+ */
+public record TransactionView(String customerName, LocalDate date, double amount) {
+}
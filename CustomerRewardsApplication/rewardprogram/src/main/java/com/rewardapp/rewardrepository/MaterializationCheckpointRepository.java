@@ -0,0 +1,40 @@
+package com.rewardapp.rewardrepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rewardapp.rewardentity.MaterializationCheckpoint;
+
+/* Interface to implement JPA repository for materialization checkpoints*/
+
+/* Lease updates are conditional, so of several instances only one holds a month at a time */
+public interface MaterializationCheckpointRepository extends JpaRepository<MaterializationCheckpoint, String> {
+
+	long countByRewardMonthInAndCompletedTrue(Collection<String> rewardMonths);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE MaterializationCheckpoint c SET c.leaseOwner = :owner, c.leaseUntil = :leaseUntil"
+			+ " WHERE c.rewardMonth = :rewardMonth AND (c.leaseOwner IS NULL OR c.leaseOwner = :owner OR c.leaseUntil < :now)")
+	int claimLease(@Param("rewardMonth") String rewardMonth, @Param("owner") String owner,
+			@Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE MaterializationCheckpoint c SET c.lastCustomerKey = :lastCustomerKey, c.leaseUntil = :leaseUntil,"
+			+ " c.updatedAt = :now WHERE c.rewardMonth = :rewardMonth AND c.leaseOwner = :owner")
+	int advance(@Param("rewardMonth") String rewardMonth, @Param("owner") String owner,
+			@Param("lastCustomerKey") String lastCustomerKey, @Param("leaseUntil") LocalDateTime leaseUntil,
+			@Param("now") LocalDateTime now);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE MaterializationCheckpoint c SET c.lastCustomerKey = :lastCustomerKey, c.completed = true,"
+			+ " c.sourceRows = :sourceRows, c.sourceAmount = :sourceAmount, c.leaseOwner = NULL, c.leaseUntil = NULL,"
+			+ " c.updatedAt = :now WHERE c.rewardMonth = :rewardMonth AND c.leaseOwner = :owner")
+	int complete(@Param("rewardMonth") String rewardMonth, @Param("owner") String owner,
+			@Param("lastCustomerKey") String lastCustomerKey, @Param("sourceRows") long sourceRows,
+			@Param("sourceAmount") double sourceAmount, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.rewardapp.rewardrepository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rewardapp.rewardentity.MaterializedReward;
+
+/* Interface to implement JPA repository for materialized reward summaries*/
+
+public interface MaterializedRewardRepository extends JpaRepository<MaterializedReward, Long> {
+
+	List<MaterializedReward> findByCustomerKeyAndRewardMonthInOrderByRewardMonth(String customerKey,
+			Collection<String> rewardMonths);
+
+	List<MaterializedReward> findByRewardMonthInOrderByCustomerKeyAscRewardMonthAsc(Collection<String> rewardMonths);
+
+	@Modifying
+	@Query("DELETE FROM MaterializedReward m WHERE m.rewardMonth = :rewardMonth AND m.customerKey IN :customerKeys")
+	int deleteByRewardMonthAndCustomerKeys(@Param("rewardMonth") String rewardMonth,
+			@Param("customerKeys") Collection<String> customerKeys);
+
+	@Modifying
+	@Query("DELETE FROM MaterializedReward m WHERE m.rewardMonth = :rewardMonth")
+	int deleteByRewardMonth(@Param("rewardMonth") String rewardMonth);
+}
@@ -0,0 +1,48 @@
+package com.rewardapp.rewardrepository;
+
+import java.time.LocalDate;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.rewardapp.rewardprogrammodel.TransactionView;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+
+/* Non-blocking access to the transactions table over R2DBC for the reactive profile*/
+
+@Repository
+@Profile("reactive")
+public class ReactiveTransactionRepository {
+
+	private final DatabaseClient databaseClient;
+
+	public ReactiveTransactionRepository(DatabaseClient databaseClient) {
+		this.databaseClient = databaseClient;
+	}
+
+	public Flux<TransactionView> findByCustomerNameIgnoreCaseAndDateBetween(String customerName, LocalDate start,
+			LocalDate end) {
+		return databaseClient
+				.sql("SELECT customer_name, date, amount FROM transactions"
+						+ " WHERE UPPER(customer_name) = UPPER(:customerName) AND date BETWEEN :start AND :end")
+				.bind("customerName", customerName).bind("start", start).bind("end", end)
+				.map(ReactiveTransactionRepository::toView).all();
+	}
+
+	/* Ordered by lower-cased customer so callers can group rows case-insensitively as they stream in */
+	public Flux<TransactionView> findByDateBetweenOrderByCustomerName(LocalDate start, LocalDate end) {
+		return databaseClient
+				.sql("SELECT customer_name, date, amount FROM transactions"
+						+ " WHERE date BETWEEN :start AND :end ORDER BY LOWER(customer_name), customer_name")
+				.bind("start", start).bind("end", end)
+				.map(ReactiveTransactionRepository::toView).all();
+	}
+
+	private static TransactionView toView(Readable row) {
+		return new TransactionView(row.get("customer_name", String.class), row.get("date", LocalDate.class),
+				row.get("amount", Double.class));
+	}
+}
@@ -1,17 +1,53 @@
 package com.rewardapp.rewardrepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.rewardapp.rewardentity.Transaction;
+import com.rewardapp.rewardprogrammodel.MonthlyTransactionStats;
+import com.rewardapp.rewardprogrammodel.TransactionStats;
+import com.rewardapp.rewardprogrammodel.TransactionView;
 
 /* Interface to implement JPA repository*/
 
+/* Reward lookups return TransactionView projections instead of managed entities */
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-	List<Transaction> findByCustomerNameIgnoreCaseAndDateBetween(String customerName, LocalDate start, LocalDate end);
+	@Query("SELECT new com.rewardapp.rewardprogrammodel.TransactionView(t.customerName, t.date, t.amount) FROM Transaction t"
+			+ " WHERE UPPER(t.customerName) = UPPER(:customerName) AND t.date BETWEEN :start AND :end")
+	List<TransactionView> findByCustomerNameIgnoreCaseAndDateBetween(@Param("customerName") String customerName,
+			@Param("start") LocalDate start, @Param("end") LocalDate end);
 
-	List<Transaction> findByDateBetween(LocalDate start, LocalDate end);
+	@Query("SELECT new com.rewardapp.rewardprogrammodel.TransactionView(t.customerName, t.date, t.amount) FROM Transaction t"
+			+ " WHERE t.date BETWEEN :start AND :end")
+	List<TransactionView> findByDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+	/* Callers pass lower-cased names so the IN list matches case-insensitively */
+	@Query("SELECT new com.rewardapp.rewardprogrammodel.TransactionView(t.customerName, t.date, t.amount) FROM Transaction t"
+			+ " WHERE LOWER(t.customerName) IN :customerNames AND t.date BETWEEN :start AND :end")
+	List<TransactionView> findByCustomerNamesAndDateBetween(@Param("customerNames") Collection<String> customerNames,
+			@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+	/* Lower-cased customer names after the given key, in key order, used to page through customers */
+	@Query("SELECT DISTINCT LOWER(t.customerName) FROM Transaction t"
+			+ " WHERE t.date BETWEEN :start AND :end AND LOWER(t.customerName) > :afterKey ORDER BY LOWER(t.customerName)")
+	List<String> findCustomerKeysAfter(@Param("start") LocalDate start, @Param("end") LocalDate end,
+			@Param("afterKey") String afterKey, Pageable page);
+
+	@Query("SELECT MIN(t.date) FROM Transaction t")
+	LocalDate findEarliestDate();
+
+	@Query("SELECT new com.rewardapp.rewardprogrammodel.TransactionStats(COUNT(t), COUNT(DISTINCT LOWER(t.customerName)),"
+			+ " MIN(t.date), MAX(t.date)) FROM Transaction t")
+	TransactionStats findStats();
+
+	@Query("SELECT new com.rewardapp.rewardprogrammodel.MonthlyTransactionStats(YEAR(t.date), MONTH(t.date), COUNT(t),"
+			+ " SUM(t.amount)) FROM Transaction t WHERE t.date BETWEEN :start AND :end GROUP BY YEAR(t.date), MONTH(t.date)")
+	List<MonthlyTransactionStats> findMonthlyStats(@Param("start") LocalDate start, @Param("end") LocalDate end);
 }
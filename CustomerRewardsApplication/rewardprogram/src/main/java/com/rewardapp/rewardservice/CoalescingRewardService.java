@@ -0,0 +1,149 @@
+package com.rewardapp.rewardservice;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.rewardapp.rewardprogrammodel.BatchRewardSummary;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardprogrammodel.TransactionModel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Single-flight front for RewardServiceImpl.
+ *
+ * Concurrent lookups with the same (customer, start, end) share one in-flight
+ * computation. The future is dropped as soon as it completes, so nothing is
+ * cached. Waiting happens here, outside the read-only transaction, so coalesced
+ * requests do not hold database connections. The customer name is matched exactly,
+ * so responses are the same as without coalescing, and every caller gets its own
+ * copy of the shared result. A follower that waits longer than the timeout runs
+ * the query itself.
+ */
+@Service
+@Primary
+@Profile("!reactive")
+public class CoalescingRewardService implements RewardService {
+
+	private static final Logger logger = LoggerFactory.getLogger(CoalescingRewardService.class);
+
+	private final RewardServiceImpl delegate;
+
+	private final ConcurrentMap<QueryKey, CompletableFuture<RewardSummary>> customerQueries = new ConcurrentHashMap<>();
+	private final ConcurrentMap<QueryKey, CompletableFuture<List<RewardSummary>>> allCustomerQueries = new ConcurrentHashMap<>();
+
+	private final Counter customerExecuted;
+	private final Counter customerCoalesced;
+	private final Counter allExecuted;
+	private final Counter allCoalesced;
+	private final Counter waitTimedOut;
+	private final long waitTimeoutMillis;
+
+	public CoalescingRewardService(RewardServiceImpl delegate, MeterRegistry meterRegistry,
+			@Value("${rewards.coalescing.wait-timeout-ms:30000}") long waitTimeoutMillis) {
+		this.delegate = delegate;
+		this.waitTimeoutMillis = waitTimeoutMillis;
+		this.customerExecuted = counter(meterRegistry, "customer", "executed");
+		this.customerCoalesced = counter(meterRegistry, "customer", "coalesced");
+		this.allExecuted = counter(meterRegistry, "all", "executed");
+		this.allCoalesced = counter(meterRegistry, "all", "coalesced");
+		this.waitTimedOut = counter(meterRegistry, "any", "wait_timed_out");
+	}
+
+	public RewardSummary getSpecificCustomerRewards(String customer, LocalDate start, LocalDate end) {
+		return coalesce(customerQueries, new QueryKey(customer, start, end), customerExecuted, customerCoalesced,
+				() -> delegate.getSpecificCustomerRewards(customer, start, end), CoalescingRewardService::copy);
+	}
+
+	public List<RewardSummary> getAllCustomerRewards(LocalDate start, LocalDate end) {
+		return coalesce(allCustomerQueries, new QueryKey(null, start, end), allExecuted, allCoalesced,
+				() -> delegate.getAllCustomerRewards(start, end),
+				summaries -> new ArrayList<>(summaries.stream().map(CoalescingRewardService::copy).toList()));
+	}
+
+	public BatchRewardSummary getBatchCustomerRewards(List<String> customers, LocalDate start, LocalDate end) {
+		return delegate.getBatchCustomerRewards(customers, start, end);
+	}
+
+	private <T> T coalesce(ConcurrentMap<QueryKey, CompletableFuture<T>> inFlight, QueryKey key, Counter executed,
+			Counter coalesced, Supplier<T> query, UnaryOperator<T> copy) {
+		CompletableFuture<T> created = new CompletableFuture<>();
+		CompletableFuture<T> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			coalesced.increment();
+			logger.debug("Joining in-flight reward query for {}", key);
+			return copy.apply(await(existing, key, query));
+		}
+
+		executed.increment();
+		try {
+			T result = query.get();
+			created.complete(result);
+			return copy.apply(result);
+		} catch (Throwable e) {
+			// Errors too, otherwise waiting and later callers would join a future that never completes
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+
+	/* Rethrows the leader's exception as-is so APIExceptionHandler maps it the same way */
+	private <T> T await(CompletableFuture<T> future, QueryKey key, Supplier<T> query) {
+		try {
+			return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			waitTimedOut.increment();
+			logger.warn("In-flight reward query for {} still running after {} ms, querying directly", key,
+					waitTimeoutMillis);
+			return query.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for reward query", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/* Callers may modify what they get back, so nobody shares the leader's instance */
+	private static RewardSummary copy(RewardSummary summary) {
+		List<TransactionModel> transactions = summary.getTransactions() == null ? null
+				: new ArrayList<>(summary.getTransactions().stream().map(tx -> new TransactionModel(tx.getCustomerName(),
+						tx.getDate(), tx.getAmount(), tx.getPoints())).toList());
+		return new RewardSummary(summary.getCustomerName(), summary.getTotalPoints(),
+				summary.getMonthlyPoints() == null ? null : new HashMap<>(summary.getMonthlyPoints()), transactions);
+	}
+
+	private static Counter counter(MeterRegistry registry, String query, String outcome) {
+		return Counter.builder("rewards.query.requests").description("Reward lookups by single-flight outcome")
+				.tag("query", query).tag("outcome", outcome).register(registry);
+	}
+
+	private record QueryKey(String customer, LocalDate start, LocalDate end) {
+	}
+}
@@ -0,0 +1,264 @@
+package com.rewardapp.rewardservice;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewardapp.rewardentity.MaterializationCheckpoint;
+import com.rewardapp.rewardentity.MaterializedReward;
+import com.rewardapp.rewardexception.RewardCalculationException;
+import com.rewardapp.rewardprogrammodel.MonthlyTransactionStats;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardprogrammodel.TransactionModel;
+import com.rewardapp.rewardprogrammodel.TransactionView;
+import com.rewardapp.rewardrepository.MaterializationCheckpointRepository;
+import com.rewardapp.rewardrepository.MaterializedRewardRepository;
+import com.rewardapp.rewardrepository.TransactionRepository;
+import com.rewardapp.rewardutil.RewardSummaryBuilder;
+
+/**
+ * Reads and writes precomputed monthly reward summaries.
+ *
+ * A date range is served from materialized data only when it covers whole
+ * closed months and every one of those months has been fully materialized.
+ * Writes for a month happen under a lease on its checkpoint row, so with
+ * several instances only the lease holder materializes that month.
+ */
+@Service
+@Profile("!reactive")
+@Transactional(readOnly = true)
+public class MaterializedRewardService {
+
+	private static final Logger logger = LoggerFactory.getLogger(MaterializedRewardService.class);
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private MaterializedRewardRepository materializedRewardRepository;
+
+	@Autowired
+	private MaterializationCheckpointRepository checkpointRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${rewards.materialization.lease-minutes:10}")
+	private long leaseMinutes;
+
+	public boolean isMaterialized(LocalDate start, LocalDate end) {
+		YearMonth lastMonth = YearMonth.from(end);
+		if (start.getDayOfMonth() != 1 || !end.equals(lastMonth.atEndOfMonth())
+				|| !lastMonth.isBefore(YearMonth.now())) {
+			return false;
+		}
+		List<String> months = monthsBetween(start, end);
+		return checkpointRepository.countByRewardMonthInAndCompletedTrue(months) == months.size();
+	}
+
+	public Optional<RewardSummary> getCustomerRewards(String customer, LocalDate start, LocalDate end) {
+		List<MaterializedReward> rows = materializedRewardRepository
+				.findByCustomerKeyAndRewardMonthInOrderByRewardMonth(customer.toLowerCase(Locale.ROOT),
+						monthsBetween(start, end));
+		return rows.isEmpty() ? Optional.empty() : Optional.of(merge(customer, rows));
+	}
+
+	public List<RewardSummary> getAllCustomerRewards(LocalDate start, LocalDate end) {
+		Map<String, List<MaterializedReward>> rowsByCustomer = new LinkedHashMap<>();
+		for (MaterializedReward row : materializedRewardRepository
+				.findByRewardMonthInOrderByCustomerKeyAscRewardMonthAsc(monthsBetween(start, end))) {
+			rowsByCustomer.computeIfAbsent(row.getCustomerKey(), k -> new ArrayList<>()).add(row);
+		}
+
+		List<RewardSummary> summaries = new ArrayList<>(rowsByCustomer.size());
+		rowsByCustomer.values().forEach(rows -> summaries.add(merge(rows.get(0).getCustomerName(), rows)));
+		return summaries;
+	}
+
+	/*
+	 * Closed months within the lookback window that still need (re)processing, oldest first:
+	 * months not completed yet, and completed months whose transactions changed since.
+	 */
+	@Transactional
+	public List<YearMonth> pendingClosedMonths(int lookbackMonths) {
+		LocalDate earliest = transactionRepository.findEarliestDate();
+		if (earliest == null) {
+			return List.of();
+		}
+		YearMonth current = YearMonth.now();
+		YearMonth first = YearMonth.from(earliest);
+		if (first.isBefore(current.minusMonths(lookbackMonths))) {
+			first = current.minusMonths(lookbackMonths);
+		}
+
+		List<YearMonth> months = new ArrayList<>();
+		for (YearMonth month = first; month.isBefore(current); month = month.plusMonths(1)) {
+			months.add(month);
+		}
+		Map<YearMonth, MonthlyTransactionStats> sourceStats = new HashMap<>();
+		for (MonthlyTransactionStats stats : transactionRepository.findMonthlyStats(first.atDay(1),
+				current.minusMonths(1).atEndOfMonth())) {
+			sourceStats.put(YearMonth.of(stats.year(), stats.month()), stats);
+		}
+
+		Set<String> upToDate = new HashSet<>();
+		checkpointRepository.findAllById(months.stream().map(YearMonth::toString).toList()).stream()
+				.filter(checkpoint -> isUpToDate(checkpoint, sourceStats.get(YearMonth.parse(checkpoint.getRewardMonth()))))
+				.forEach(checkpoint -> upToDate.add(checkpoint.getRewardMonth()));
+		months.removeIf(month -> upToDate.contains(month.toString()));
+		return months;
+	}
+
+	/* Row count and amount of the month's transactions as they are now */
+	public MonthlyTransactionStats sourceStats(YearMonth month) {
+		return transactionRepository.findMonthlyStats(month.atDay(1), month.atEndOfMonth()).stream().findFirst()
+				.orElse(new MonthlyTransactionStats(month.getYear(), month.getMonthValue(), 0, 0));
+	}
+
+	/*
+	 * Takes the month's lease for this instance. Returns false when another instance holds it or
+	 * the month is already up to date. A completed month whose transactions changed is started over.
+	 * Two instances creating the same new checkpoint at once fail one of them on the primary key,
+	 * which callers treat as not claimed.
+	 */
+	@Transactional
+	public boolean claimMonth(YearMonth month, String owner, MonthlyTransactionStats source) {
+		String rewardMonth = month.toString();
+		LocalDateTime now = LocalDateTime.now();
+		Optional<MaterializationCheckpoint> existing = checkpointRepository.findById(rewardMonth);
+		if (existing.isEmpty()) {
+			checkpointRepository.saveAndFlush(new MaterializationCheckpoint(rewardMonth, owner,
+					now.plusMinutes(leaseMinutes)));
+			return true;
+		}
+		if (isUpToDate(existing.get(), source)
+				|| checkpointRepository.claimLease(rewardMonth, owner, now.plusMinutes(leaseMinutes), now) == 0) {
+			return false;
+		}
+
+		if (existing.get().isCompleted()) {
+			logger.info("Transactions of {} changed after it was materialized, starting it over", rewardMonth);
+			materializedRewardRepository.deleteByRewardMonth(rewardMonth);
+			MaterializationCheckpoint checkpoint = checkpointRepository.findById(rewardMonth).orElseThrow();
+			checkpoint.setCompleted(false);
+			checkpoint.setLastCustomerKey("");
+			checkpoint.setSourceRows(null);
+			checkpoint.setSourceAmount(null);
+			checkpoint.setUpdatedAt(now);
+		}
+		return true;
+	}
+
+	/* Last customer key written for the month, or "" when the month has not been started */
+	@Transactional
+	public String checkpointFor(YearMonth month) {
+		return checkpointRepository.findById(month.toString()).map(MaterializationCheckpoint::getLastCustomerKey)
+				.orElse("");
+	}
+
+	public List<String> nextCustomerKeys(YearMonth month, String afterKey, int chunkSize) {
+		return transactionRepository.findCustomerKeysAfter(month.atDay(1), month.atEndOfMonth(), afterKey,
+				PageRequest.of(0, chunkSize));
+	}
+
+	/*
+	 * Writes the summaries for one chunk of customers and advances the checkpoint in
+	 * the same transaction, so a crash either keeps the whole chunk or none of it.
+	 * Each chunk renews the lease; if another instance has taken it over, the chunk is rolled back.
+	 */
+	@Transactional
+	public void materializeChunk(YearMonth month, List<String> customerKeys, String previousKey, boolean lastChunk,
+			String owner, MonthlyTransactionStats source) {
+		String rewardMonth = month.toString();
+		if (!customerKeys.isEmpty()) {
+			Map<String, List<TransactionView>> transactionsByCustomer = new LinkedHashMap<>();
+			for (TransactionView tx : transactionRepository.findByCustomerNamesAndDateBetween(customerKeys,
+					month.atDay(1), month.atEndOfMonth())) {
+				transactionsByCustomer.computeIfAbsent(tx.customerName().toLowerCase(Locale.ROOT),
+						k -> new ArrayList<>()).add(tx);
+			}
+
+			List<MaterializedReward> rows = new ArrayList<>(transactionsByCustomer.size());
+			transactionsByCustomer.forEach((key, transactions) -> {
+				RewardSummary summary = RewardSummaryBuilder.build(RewardSummaryBuilder.displayName(transactions), transactions);
+				rows.add(new MaterializedReward(rewardMonth, key, summary.getCustomerName(), summary.getTotalPoints(),
+						writeSummary(summary)));
+			});
+			materializedRewardRepository.deleteByRewardMonthAndCustomerKeys(rewardMonth, customerKeys);
+			materializedRewardRepository.saveAll(rows);
+		}
+
+		String lastKey = customerKeys.isEmpty() ? previousKey : customerKeys.get(customerKeys.size() - 1);
+		LocalDateTime now = LocalDateTime.now();
+		int updated = lastChunk
+				? checkpointRepository.complete(rewardMonth, owner, lastKey, source.rowCount(), source.totalAmount(), now)
+				: checkpointRepository.advance(rewardMonth, owner, lastKey, now.plusMinutes(leaseMinutes), now);
+		if (updated == 0) {
+			throw new IllegalStateException("Materialization lease for " + rewardMonth + " was taken over by another instance");
+		}
+		logger.debug("Materialized {} customers for {}, checkpoint '{}'", customerKeys.size(), rewardMonth, lastKey);
+	}
+
+	/* Completed, and its transactions still have the row count and amount seen when it was materialized */
+	private static boolean isUpToDate(MaterializationCheckpoint checkpoint, MonthlyTransactionStats source) {
+		if (!checkpoint.isCompleted()) {
+			return false;
+		}
+		long rows = source == null ? 0 : source.rowCount();
+		double amount = source == null ? 0 : source.totalAmount();
+		return checkpoint.getSourceRows() != null && checkpoint.getSourceRows() == rows
+				&& checkpoint.getSourceAmount() != null && Math.abs(checkpoint.getSourceAmount() - amount) < 0.005;
+	}
+
+	private RewardSummary merge(String customerName, List<MaterializedReward> rows) {
+		Map<String, Integer> monthlyPoints = new HashMap<>();
+		List<TransactionModel> transactions = new ArrayList<>();
+		int totalPoints = 0;
+
+		for (MaterializedReward row : rows) {
+			RewardSummary month = readSummary(row);
+			monthlyPoints.putAll(month.getMonthlyPoints());
+			transactions.addAll(month.getTransactions());
+			totalPoints += month.getTotalPoints();
+		}
+
+		return new RewardSummary(customerName, totalPoints, monthlyPoints, transactions);
+	}
+
+	private String writeSummary(RewardSummary summary) {
+		try {
+			return objectMapper.writeValueAsString(summary);
+		} catch (JsonProcessingException e) {
+			throw new RewardCalculationException("Could not store reward summary for " + summary.getCustomerName());
+		}
+	}
+
+	private RewardSummary readSummary(MaterializedReward row) {
+		try {
+			return objectMapper.readValue(row.getSummaryJson(), RewardSummary.class);
+		} catch (JsonProcessingException e) {
+			logger.error("Stored reward summary for {} in {} is unreadable", row.getCustomerKey(), row.getRewardMonth(), e);
+			throw new RewardCalculationException("Could not read stored reward summary for " + row.getCustomerName());
+		}
+	}
+
+	private static List<String> monthsBetween(LocalDate start, LocalDate end) {
+		List<String> months = new ArrayList<>();
+		for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+			months.add(month.toString());
+		}
+		return months;
+	}
+}
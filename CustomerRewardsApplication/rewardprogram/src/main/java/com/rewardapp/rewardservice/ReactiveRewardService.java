@@ -0,0 +1,16 @@
+package com.rewardapp.rewardservice;
+
+import java.time.LocalDate;
+
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*Non-blocking counterpart of RewardService used by the reactive profile*/
+public interface ReactiveRewardService {
+	Mono<RewardSummary> getSpecificCustomerRewards(String customer, LocalDate start, LocalDate end);
+
+	Flux<RewardSummary> getAllCustomerRewards(LocalDate start, LocalDate end);
+
+}
@@ -0,0 +1,83 @@
+package com.rewardapp.rewardservice;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.rewardapp.rewardexception.CustomerNotFoundException;
+import com.rewardapp.rewardexception.InvalidDateRangeException;
+import com.rewardapp.rewardexception.RewardCalculationException;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardprogrammodel.TransactionView;
+import com.rewardapp.rewardrepository.ReactiveTransactionRepository;
+import com.rewardapp.rewardutil.RewardSummaryBuilder;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive service for calculating rewards. Same rules and errors as
+ * RewardServiceImpl, but rows are streamed from R2DBC instead of loaded in one list.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveRewardServiceImpl implements ReactiveRewardService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRewardServiceImpl.class);
+
+	private final ReactiveTransactionRepository repository;
+
+	public ReactiveRewardServiceImpl(ReactiveTransactionRepository repository) {
+		this.repository = repository;
+	}
+
+	public Mono<RewardSummary> getSpecificCustomerRewards(String customer, LocalDate start, LocalDate end) {
+		validateDateRange(start, end);
+
+		return repository.findByCustomerNameIgnoreCaseAndDateBetween(customer, start, end).collectList()
+				.flatMap(transactions -> {
+					if (transactions.isEmpty()) {
+						logger.warn("No transactions found for customer: {}", customer);
+						return Mono.error(
+								new CustomerNotFoundException("No transactions found for customer: " + customer));
+					}
+					return Mono.fromCallable(() -> buildRewardSummary(customer, transactions));
+				});
+	}
+
+	public Flux<RewardSummary> getAllCustomerRewards(LocalDate start, LocalDate end) {
+		validateDateRange(start, end);
+
+		// rows arrive ordered by lower-cased customer, so each run of equal keys is one summary
+		return repository.findByDateBetweenOrderByCustomerName(start, end)
+				.bufferUntilChanged(tx -> tx.customerName().toLowerCase(Locale.ROOT))
+				.map(customerTx -> buildRewardSummary(customerTx.get(0).customerName(), customerTx))
+				.switchIfEmpty(Flux.defer(() -> {
+					logger.warn("No transactions found in date range {} to {}", start, end);
+					return Flux.error(new CustomerNotFoundException("No transactions found for any customer"));
+				}));
+	}
+
+	private RewardSummary buildRewardSummary(String customer, List<TransactionView> transactions) {
+		try {
+			return RewardSummaryBuilder.build(customer, transactions);
+		} catch (Exception e) {
+			logger.error("Reward calculation failed for customer: {}", customer, e);
+			throw new RewardCalculationException("Reward calculation failed/negative for customers: " + customer);
+		}
+	}
+
+	private void validateDateRange(LocalDate start, LocalDate end) {
+		if (start == null || end == null) {
+			throw new InvalidDateRangeException("Start and end dates must be provided.");
+		}
+		if (start.isAfter(end)) {
+			throw new InvalidDateRangeException("Start date must not be after end date.");
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.rewardapp.rewardservice;
+
+import java.lang.management.ManagementFactory;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rewardapp.rewardprogrammodel.MonthlyTransactionStats;
+
+/**
+ * Nightly job that materializes reward summaries for closed months.
+ *
+ * Each pending month runs on the bounded materialization pool and walks its
+ * customers in chunks, resuming from the month's checkpoint, pausing between
+ * chunks so live traffic keeps its share of database connections.
+ * With several instances each month is leased to one of them, the others skip it.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "rewards.materialization", name = "enabled", matchIfMissing = true)
+public class RewardMaterializationJob {
+
+	private static final Logger logger = LoggerFactory.getLogger(RewardMaterializationJob.class);
+
+	/* pid@host, identifies this instance as lease owner */
+	private final String instanceId = ManagementFactory.getRuntimeMXBean().getName();
+
+	@Autowired
+	private MaterializedRewardService materializedRewardService;
+
+	@Autowired
+	@Qualifier("materializationExecutor")
+	private AsyncTaskExecutor executor;
+
+	@Value("${rewards.materialization.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${rewards.materialization.chunk-pause-ms:200}")
+	private long chunkPauseMillis;
+
+	@Value("${rewards.materialization.lookback-months:12}")
+	private int lookbackMonths;
+
+	@Scheduled(cron = "${rewards.materialization.cron:0 0 2 * * *}")
+	public void materializeClosedMonths() {
+		List<YearMonth> months = materializedRewardService.pendingClosedMonths(lookbackMonths);
+		logger.info("Materializing rewards for {} closed months", months.size());
+
+		List<Future<?>> running = new ArrayList<>();
+		for (YearMonth month : months) {
+			running.add(executor.submit(() -> materializeMonth(month)));
+		}
+		// wait so the next scheduled run never overlaps this one
+		for (Future<?> future : running) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException e) {
+				logger.error("Reward materialization failed", e.getCause());
+			}
+		}
+	}
+
+	void materializeMonth(YearMonth month) {
+		MonthlyTransactionStats source = materializedRewardService.sourceStats(month);
+		boolean claimed;
+		try {
+			claimed = materializedRewardService.claimMonth(month, instanceId, source);
+		} catch (DataIntegrityViolationException e) {
+			claimed = false;
+		}
+		if (!claimed) {
+			logger.info("Skipping {}, it is up to date or another instance is materializing it", month);
+			return;
+		}
+
+		String afterKey = materializedRewardService.checkpointFor(month);
+		if (!afterKey.isEmpty()) {
+			logger.info("Resuming materialization of {} after customer '{}'", month, afterKey);
+		}
+
+		while (true) {
+			List<String> customerKeys = materializedRewardService.nextCustomerKeys(month, afterKey, chunkSize);
+			boolean lastChunk = customerKeys.size() < chunkSize;
+			materializedRewardService.materializeChunk(month, customerKeys, afterKey, lastChunk, instanceId,
+					source);
+			if (lastChunk) {
+				logger.info("Finished materializing rewards for {}", month);
+				return;
+			}
+			afterKey = customerKeys.get(customerKeys.size() - 1);
+			try {
+				Thread.sleep(chunkPauseMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
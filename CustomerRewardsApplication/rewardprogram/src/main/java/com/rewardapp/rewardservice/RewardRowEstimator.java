@@ -0,0 +1,69 @@
+package com.rewardapp.rewardservice;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rewardapp.rewardprogrammodel.TransactionStats;
+import com.rewardapp.rewardrepository.TransactionRepository;
+
+/**
+ * Estimates how many transaction rows a reward query will load, assuming rows
+ * are spread evenly over days and customers. Table statistics are reloaded in
+ * the background every refresh interval, requests only read the last snapshot.
+ */
+@Service
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "rewards.admission", name = "enabled", matchIfMissing = true)
+public class RewardRowEstimator {
+
+	private static final Logger logger = LoggerFactory.getLogger(RewardRowEstimator.class);
+
+	@Autowired
+	private TransactionRepository repository;
+
+	/* Until the first refresh completes nothing is known, so nothing is rejected on estimated rows */
+	private volatile TransactionStats stats = new TransactionStats(0, 0, null, null);
+
+	public long estimateAllCustomers(LocalDate start, LocalDate end) {
+		return estimateAllCustomers(stats, start, end);
+	}
+
+	public long estimateCustomers(int customers, LocalDate start, LocalDate end) {
+		TransactionStats current = stats;
+		long customerCount = Math.max(1, current.customerCount());
+		return (long) Math.ceil((double) estimateAllCustomers(current, start, end) * Math.min(customers, customerCount)
+				/ customerCount);
+	}
+
+	/* Full-table aggregate, so it runs off the request path and on the read replica when one is configured */
+	@Scheduled(fixedDelayString = "${rewards.admission.stats-refresh-seconds:300}", timeUnit = TimeUnit.SECONDS)
+	@Transactional(readOnly = true)
+	public void refreshStats() {
+		stats = repository.findStats();
+		logger.debug("Refreshed transaction statistics: {}", stats);
+	}
+
+	private static long estimateAllCustomers(TransactionStats current, LocalDate start, LocalDate end) {
+		if (current.rowCount() == 0 || current.firstDate() == null) {
+			return 0;
+		}
+		LocalDate from = start.isAfter(current.firstDate()) ? start : current.firstDate();
+		LocalDate to = end.isBefore(current.lastDate()) ? end : current.lastDate();
+		if (from.isAfter(to)) {
+			return 0;
+		}
+		double rowsPerDay = (double) current.rowCount()
+				/ (ChronoUnit.DAYS.between(current.firstDate(), current.lastDate()) + 1);
+		return (long) Math.ceil(rowsPerDay * (ChronoUnit.DAYS.between(from, to) + 1));
+	}
+}
@@ -3,6 +3,7 @@ package com.rewardapp.rewardservice;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.rewardapp.rewardprogrammodel.BatchRewardSummary;
 import com.rewardapp.rewardprogrammodel.RewardSummary;
 
 /*Service interface to get all methods which will communicate with other layers to be implemented*/
@@ -11,4 +12,6 @@ public interface RewardService {
 
 	List<RewardSummary> getAllCustomerRewards(LocalDate start, LocalDate end);
 
+	BatchRewardSummary getBatchCustomerRewards(List<String> customers, LocalDate start, LocalDate end);
+
 }
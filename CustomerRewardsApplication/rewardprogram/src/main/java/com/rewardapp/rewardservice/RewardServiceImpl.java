@@ -1,41 +1,57 @@
 package com.rewardapp.rewardservice;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.rewardapp.rewardentity.Transaction;
 import com.rewardapp.rewardexception.CustomerNotFoundException;
 import com.rewardapp.rewardexception.InvalidDateRangeException;
 import com.rewardapp.rewardexception.RewardCalculationException;
+import com.rewardapp.rewardprogrammodel.BatchRewardSummary;
 import com.rewardapp.rewardprogrammodel.RewardSummary;
-import com.rewardapp.rewardprogrammodel.TransactionModel;
+import com.rewardapp.rewardprogrammodel.TransactionView;
 import com.rewardapp.rewardrepository.TransactionRepository;
-import com.rewardapp.rewardutil.RewardCalculator;
+import com.rewardapp.rewardutil.RewardSummaryBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Service for calculating rewards and building reward summaries.
+ * All lookups are read-only, so they run on the read replica when one is configured.
  */
 @Service
+@Profile("!reactive")
+@Transactional(readOnly = true)
 public class RewardServiceImpl implements RewardService {
 
 	private static final Logger logger = LoggerFactory.getLogger(RewardServiceImpl.class);
-	private final DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("yyyy-MM");
+
+	/* Keeps the IN list of the batch query well below database parameter limits */
+	private static final int CUSTOMER_QUERY_CHUNK_SIZE = 500;
 
 	@Autowired
 	private TransactionRepository repository;
 
+	@Autowired
+	private MaterializedRewardService materializedRewards;
+
 	public RewardSummary getSpecificCustomerRewards(String customer, LocalDate start, LocalDate end) {
 		validateDateRange(start, end);
 
-		List<Transaction> transactions = repository.findByCustomerNameIgnoreCaseAndDateBetween(customer, start, end);
+		if (materializedRewards.isMaterialized(start, end)) {
+			logger.debug("Serving materialized rewards for customer: {}", customer);
+			return materializedRewards.getCustomerRewards(customer, start, end).orElseThrow(() -> {
+				logger.warn("No transactions found for customer: {}", customer);
+				return new CustomerNotFoundException("No transactions found for customer: " + customer);
+			});
+		}
+
+		List<TransactionView> transactions = repository.findByCustomerNameIgnoreCaseAndDateBetween(customer, start, end);
 		if (transactions.isEmpty()) {
 			logger.warn("No transactions found for customer: {}", customer);
 			throw new CustomerNotFoundException("No transactions found for customer: " + customer);
@@ -52,44 +68,89 @@ public class RewardServiceImpl implements RewardService {
 	public List<RewardSummary> getAllCustomerRewards(LocalDate start, LocalDate end) {
 		validateDateRange(start, end);
 
-		List<Transaction> allTransactions = repository.findByDateBetween(start, end);
+		if (materializedRewards.isMaterialized(start, end)) {
+			List<RewardSummary> summaries = materializedRewards.getAllCustomerRewards(start, end);
+			if (summaries.isEmpty()) {
+				logger.warn("No transactions found in date range {} to {}", start, end);
+				throw new CustomerNotFoundException("No transactions found for any customer");
+			}
+			logger.debug("Serving materialized rewards for {} customers", summaries.size());
+			return summaries;
+		}
+
+		List<TransactionView> allTransactions = repository.findByDateBetween(start, end);
 		if (allTransactions.isEmpty()) {
 			logger.warn("No transactions found in date range {} to {}", start, end);
 
 			throw new CustomerNotFoundException("No transactions found for any customer");
 		}
 
+		// one pass over the rows already loaded, names that differ only in case belong to the same customer;
+		// ordered by that key, as materialized results are
+		Map<String, List<TransactionView>> transactionsByCustomer = new TreeMap<>();
+		for (TransactionView tx : allTransactions) {
+			transactionsByCustomer.computeIfAbsent(tx.customerName().toLowerCase(Locale.ROOT),
+					k -> new ArrayList<>()).add(tx);
+		}
+
 		try {
-			return allTransactions.stream().map(Transaction::getCustomerName).distinct().map(name -> {
-				List<Transaction> customerTx = repository.findByCustomerNameIgnoreCaseAndDateBetween(name, start, end);
-				return buildRewardSummary(name, customerTx);
-			}).collect(Collectors.toList());
+			List<RewardSummary> summaries = new ArrayList<>(transactionsByCustomer.size());
+			transactionsByCustomer.values()
+					.forEach(customerTx -> summaries.add(buildRewardSummary(RewardSummaryBuilder.displayName(customerTx), customerTx)));
+			return summaries;
 		} catch (Exception e) {
 			logger.error("Reward calculation failed/negative for customers", e);
 			throw new RewardCalculationException("Reward calculation failed/negative for customers.");
 		}
 	}
 
-	public RewardSummary buildRewardSummary(String customer, List<Transaction> transactions) {
-		Map<String, Integer> monthlyPoints = new HashMap<>();
-		List<TransactionModel> transactionModels = new ArrayList<>();
-		int totalPoints = 0;
+	public BatchRewardSummary getBatchCustomerRewards(List<String> customers, LocalDate start, LocalDate end) {
+		validateDateRange(start, end);
 
-		for (Transaction tx : transactions) {
-			int points = RewardCalculator.calculate(tx.getAmount());
-			if (points < 0) {
-				logger.error("Negative reward points : amount={}", tx.getAmount());
-				throw new RewardCalculationException("Reward calculation failed/negative for customers:" + customer);
+		// lower-cased name -> name as first requested, in request order; blank names can never match
+		Map<String, String> requested = new LinkedHashMap<>();
+		List<String> notFound = new ArrayList<>();
+		for (String customer : customers) {
+			if (customer == null || customer.isBlank()) {
+				notFound.add(customer);
+			} else {
+				requested.putIfAbsent(customer.toLowerCase(Locale.ROOT), customer);
 			}
-			String month = tx.getDate().format(monthFormat);
+		}
+
+		List<String> names = new ArrayList<>(requested.keySet());
+		Map<String, List<TransactionView>> transactionsByCustomer = new HashMap<>();
+		for (int from = 0; from < names.size(); from += CUSTOMER_QUERY_CHUNK_SIZE) {
+			List<String> chunk = names.subList(from, Math.min(from + CUSTOMER_QUERY_CHUNK_SIZE, names.size()));
+			for (TransactionView tx : repository.findByCustomerNamesAndDateBetween(chunk, start, end)) {
+				transactionsByCustomer.computeIfAbsent(tx.customerName().toLowerCase(Locale.ROOT),
+						k -> new ArrayList<>()).add(tx);
+			}
+		}
 
-			monthlyPoints.merge(month, points, Integer::sum);
-			transactionModels.add(new TransactionModel(tx.getCustomerName(), tx.getDate(), tx.getAmount(), points));
-			totalPoints += points;
+		Map<String, RewardSummary> rewards = new LinkedHashMap<>();
+		try {
+			requested.forEach((key, customer) -> {
+				List<TransactionView> customerTx = transactionsByCustomer.get(key);
+				if (customerTx == null) {
+					notFound.add(customer);
+				} else {
+					rewards.put(customer, buildRewardSummary(customer, customerTx));
+				}
+			});
+		} catch (Exception e) {
+			logger.error("Reward calculation failed/negative for batch of {} customers", requested.size(), e);
+			throw new RewardCalculationException("Reward calculation failed/negative for customers.");
+		}
 
+		if (!notFound.isEmpty()) {
+			logger.warn("No transactions found for {} of {} requested customers", notFound.size(), customers.size());
 		}
+		return new BatchRewardSummary(rewards, notFound);
+	}
 
-		return new RewardSummary(customer, totalPoints, monthlyPoints, transactionModels);
+	public RewardSummary buildRewardSummary(String customer, List<TransactionView> transactions) {
+		return RewardSummaryBuilder.build(customer, transactions);
 	}
 
 	private void validateDateRange(LocalDate start, LocalDate end) {
@@ -0,0 +1,54 @@
+package com.rewardapp.rewardutil;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rewardapp.rewardexception.RewardCalculationException;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardprogrammodel.TransactionModel;
+import com.rewardapp.rewardprogrammodel.TransactionView;
+
+/*utility class RewardSummaryBuilder to aggregate a customer's transactions
+into monthly and total reward points, shared by the servlet and reactive services.*/
+
+public class RewardSummaryBuilder {
+
+	private static final Logger logger = LoggerFactory.getLogger(RewardSummaryBuilder.class);
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+	public static RewardSummary build(String customer, List<TransactionView> transactions) {
+		Map<String, Integer> monthlyPoints = new HashMap<>();
+		List<TransactionModel> transactionModels = new ArrayList<>();
+		int totalPoints = 0;
+
+		for (TransactionView tx : transactions) {
+			int points = RewardCalculator.calculate(tx.amount());
+			if (points < 0) {
+				logger.error("Negative reward points : amount={}", tx.amount());
+				throw new RewardCalculationException("Reward calculation failed/negative for customers:" + customer);
+			}
+			String month = tx.date().format(MONTH_FORMAT);
+
+			monthlyPoints.merge(month, points, Integer::sum);
+			transactionModels.add(new TransactionModel(tx.customerName(), tx.date(), tx.amount(), points));
+			totalPoints += points;
+
+		}
+
+		return new RewardSummary(customer, totalPoints, monthlyPoints, transactionModels);
+	}
+
+	/* Spelling of the customer's earliest transaction, so live and materialized results name a customer alike */
+	public static String displayName(List<TransactionView> transactions) {
+		return transactions.stream()
+				.min(Comparator.comparing(TransactionView::date).thenComparing(TransactionView::customerName))
+				.orElseThrow().customerName();
+	}
+}
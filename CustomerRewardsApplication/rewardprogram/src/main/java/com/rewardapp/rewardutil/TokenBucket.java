@@ -0,0 +1,47 @@
+package com.rewardapp.rewardutil;
+
+/*utility class TokenBucket for per-client rate limiting: holds up to capacity tokens,
+refilled continuously at refillPerSecond, one token per request.*/
+
+public class TokenBucket {
+
+	private final double capacity;
+	private final double refillPerNano;
+	private double tokens;
+	private long lastRefill;
+
+	public TokenBucket(int capacity, double refillPerSecond) {
+		this.capacity = capacity;
+		this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	public synchronized boolean tryConsume() {
+		refill();
+		if (tokens >= 1) {
+			tokens -= 1;
+			return true;
+		}
+		return false;
+	}
+
+	/* Whole seconds until the next token is available, at least 1 */
+	public synchronized long secondsUntilNextToken() {
+		refill();
+		double missing = Math.max(0, 1 - tokens);
+		return Math.max(1, (long) Math.ceil(missing / refillPerNano / 1_000_000_000.0));
+	}
+
+	/* A full bucket carries no state worth keeping for an idle client */
+	public synchronized boolean isFull() {
+		refill();
+		return tokens >= capacity;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+		lastRefill = now;
+	}
+}
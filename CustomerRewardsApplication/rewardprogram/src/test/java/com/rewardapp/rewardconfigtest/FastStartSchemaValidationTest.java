@@ -0,0 +1,41 @@
+package com.rewardapp.rewardconfigtest;
+
+import com.rewardapp.RewardProgramApplication;
+
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*This class verifies that the faststart profile, despite lazy initialization, builds the EntityManagerFactory
+  and so validates the schema while the application starts, also with the materialization job disabled.*/
+class FastStartSchemaValidationTest {
+
+    private final SpringApplicationBuilder application = new SpringApplicationBuilder(RewardProgramApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("faststart");
+
+    @Test
+    void shouldFailStartup_WhenSchemaMissing() {
+        Exception exception = assertThrows(Exception.class, () -> application.run(
+                "--spring.datasource.url=jdbc:h2:mem:faststartempty;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--rewards.materialization.enabled=false"));
+
+        assertInstanceOf(SchemaManagementException.class, NestedExceptionUtils.getMostSpecificCause(exception));
+    }
+
+    @Test
+    void shouldExcludeEntityManagerFactoryFromLazyInitialization() {
+        try (ConfigurableApplicationContext context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:faststartcreated;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop", "--rewards.materialization.enabled=false")) {
+
+            assertTrue(context.getBeanFactory().getBeanDefinition("rewardServiceImpl").isLazyInit());
+            assertFalse(context.getBeanFactory().getBeanDefinition("entityManagerFactory").isLazyInit());
+        }
+    }
+}
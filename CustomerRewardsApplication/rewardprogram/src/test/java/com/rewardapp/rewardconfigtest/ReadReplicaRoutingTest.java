@@ -0,0 +1,76 @@
+package com.rewardapp.rewardconfigtest;
+
+import com.rewardapp.rewardentity.Transaction;
+import com.rewardapp.rewardexception.CustomerNotFoundException;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardrepository.TransactionRepository;
+import com.rewardapp.rewardservice.RewardService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*This class verifies that read-only reward queries are served by the replica pool
+  while writes go to the primary, using two separate in-memory databases.*/
+@SpringBootTest(properties = {
+        "rewards.datasource.replica.jdbc-url=jdbc:h2:mem:rewardreplica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "rewards.datasource.replica.username=sa",
+        "rewards.datasource.replica.password="
+})
+class ReadReplicaRoutingTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 7, 1);
+    private static final LocalDate END = LocalDate.of(2025, 7, 31);
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setup() {
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS transactions (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "customer_name VARCHAR(255), date DATE, amount DOUBLE NOT NULL)");
+        replica.execute("CREATE TABLE IF NOT EXISTS reward_materialization_checkpoints ("
+                + "reward_month VARCHAR(255) PRIMARY KEY, last_customer_key VARCHAR(255), "
+                + "completed BOOLEAN NOT NULL, updated_at TIMESTAMP, lease_owner VARCHAR(255), lease_until TIMESTAMP, "
+                + "source_rows BIGINT, source_amount DOUBLE)");
+        replica.execute("DELETE FROM transactions");
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldReadRewardsFromReplica() {
+        replica.update("INSERT INTO transactions (customer_name, date, amount) VALUES (?, ?, ?)",
+                "Satyam", START, 120.0);
+
+        RewardSummary summary = rewardService.getSpecificCustomerRewards("Satyam", START, END);
+
+        assertEquals(90, summary.getTotalPoints());
+    }
+
+    @Test
+    void shouldWriteToPrimaryOnly() {
+        repository.save(new Transaction("ManuTiwari", START, 120.0));
+
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM transactions", Integer.class));
+        assertThrows(CustomerNotFoundException.class,
+                () -> rewardService.getSpecificCustomerRewards("ManuTiwari", START, END));
+    }
+}
@@ -0,0 +1,74 @@
+package com.rewardapp.rewardcontrollertest;
+
+import com.rewardapp.rewardcontroller.RewardAdmissionInterceptor;
+import com.rewardapp.rewardexception.AdmissionRejectedException;
+import com.rewardapp.rewardservice.RewardRowEstimator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+This class contains unit tests for the rate limit buckets of `RewardAdmissionInterceptor`:
+the cap on tracked clients and the sweep of idle buckets.
+
+ */
+class RewardAdmissionInterceptorTest {
+
+    private static final int MAX_TRACKED_CLIENTS = 2;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldShareOverflowBucket_WhenTrackedClientLimitReached() throws Exception {
+        RewardAdmissionInterceptor interceptor = interceptor(0.001);
+
+        assertTrue(admit(interceptor, "10.0.0.1"));
+        assertTrue(admit(interceptor, "10.0.0.2"));
+        // every further address draws from the same bucket of capacity 2
+        assertTrue(admit(interceptor, "10.0.0.3"));
+        assertTrue(admit(interceptor, "10.0.0.4"));
+        assertThrows(AdmissionRejectedException.class, () -> admit(interceptor, "10.0.0.5"));
+
+        assertEquals(MAX_TRACKED_CLIENTS, trackedClients());
+        assertTrue(admit(interceptor, "10.0.0.1"), "Tracked clients should keep their own bucket");
+    }
+
+    @Test
+    void shouldEvictIdleBuckets_AndTrackNewClientsAgain() throws Exception {
+        RewardAdmissionInterceptor interceptor = interceptor(1000);
+        admit(interceptor, "10.0.0.1");
+        admit(interceptor, "10.0.0.2");
+        Thread.sleep(20); // refilled to capacity
+
+        interceptor.evictIdleClients();
+        assertEquals(0, trackedClients());
+
+        admit(interceptor, "10.0.0.3");
+        assertEquals(1, trackedClients());
+    }
+
+    private RewardAdmissionInterceptor interceptor(double refillPerSecond) {
+        return new RewardAdmissionInterceptor(mock(RewardRowEstimator.class), meterRegistry, "X-Client-Id", Set.of(),
+                2, refillPerSecond, MAX_TRACKED_CLIENTS, 366, 500_000, 4);
+    }
+
+    private static boolean admit(RewardAdmissionInterceptor interceptor, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rewards/Satyam");
+        request.setRemoteAddr(remoteAddress);
+        return interceptor.preHandle(request, new MockHttpServletResponse(),
+                new HandlerMethod(new Object(), Object.class.getMethod("toString")));
+    }
+
+    private double trackedClients() {
+        return meterRegistry.get("rewards.admission.clients").gauge().value();
+    }
+}
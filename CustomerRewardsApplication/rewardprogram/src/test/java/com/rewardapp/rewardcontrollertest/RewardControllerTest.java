@@ -2,6 +2,8 @@ package com.rewardapp.rewardcontrollertest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rewardapp.rewardcontroller.RewardController;
+import com.rewardapp.rewardprogrammodel.BatchRewardRequest;
+import com.rewardapp.rewardprogrammodel.BatchRewardSummary;
 import com.rewardapp.rewardprogrammodel.RewardSummary;
 import com.rewardapp.rewardprogrammodel.TransactionModel;
 import com.rewardapp.rewardservice.RewardServiceImpl;
@@ -17,9 +19,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -95,4 +99,35 @@ class RewardControllerTest {
 		mockMvc.perform(post("/api/rewards/transaction").contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(transaction))).andExpect(status().isBadRequest());
 	}
+
+	@Test
+	void getBatch_ShouldReturnRewardsAndNotFoundCustomers() throws Exception {
+		Mockito.when(service.getBatchCustomerRewards(anyList(), any(LocalDate.class), any(LocalDate.class)))
+				.thenReturn(new BatchRewardSummary(Map.of("Satyam", new RewardSummary("Satyam", 90, null, null)),
+						List.of("Unknown")));
+
+		BatchRewardRequest request = new BatchRewardRequest(List.of("Satyam", "Unknown"), "2025-07-01", "2025-07-31");
+
+		mockMvc.perform(post("/api/rewards/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request))).andExpect(status().isOk())
+				.andExpect(jsonPath("$.rewards.Satyam.totalPoints").value(90))
+				.andExpect(jsonPath("$.notFoundCustomers[0]").value("Unknown"));
+	}
+
+	@Test
+	void getBatch_ShouldReturn400_WhenCustomerListEmpty() throws Exception {
+		BatchRewardRequest request = new BatchRewardRequest(List.of(), "2025-07-01", "2025-07-31");
+
+		mockMvc.perform(post("/api/rewards/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request))).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getBatch_ShouldReturn400_WhenCustomerNameBlank() throws Exception {
+		BatchRewardRequest request = new BatchRewardRequest(List.of("Satyam", " "), "2025-07-01", "2025-07-31");
+
+		mockMvc.perform(post("/api/rewards/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request))).andExpect(status().isBadRequest());
+		Mockito.verifyNoInteractions(service);
+	}
 }
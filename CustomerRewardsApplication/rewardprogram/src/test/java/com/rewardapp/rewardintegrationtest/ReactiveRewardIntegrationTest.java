@@ -0,0 +1,97 @@
+package com.rewardapp.rewardintegrationtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+
+/*This class contains integration tests for the reactive (WebFlux + R2DBC) rewards API,
+  running against an in-memory H2 database through R2DBC.*/
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveRewardIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setup() {
+        databaseClient.sql("DELETE FROM transactions").then().block();
+        insert("Satyam", LocalDate.of(2025, 7, 1), 120.0);   // 90 points
+        insert("Satyam", LocalDate.of(2025, 7, 2), 50.0);    // 0 points
+        insert("ManuTiwari", LocalDate.of(2025, 7, 3), 60.0); // 10 points
+    }
+
+    private void insert(String customer, LocalDate date, double amount) {
+        databaseClient.sql("INSERT INTO transactions (customer_name, date, amount) VALUES (:customer, :date, :amount)")
+                .bind("customer", customer).bind("date", date).bind("amount", amount).then().block();
+    }
+
+    @Test
+    void shouldReturnRewards_ForValidCustomer() {
+        webTestClient.get().uri("/api/rewards/Satyam?startDate=2025-07-01&endDate=2025-07-31")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.customerName").isEqualTo("Satyam")
+                .jsonPath("$.totalPoints").isEqualTo(90);
+    }
+
+    @Test
+    void shouldStreamRewards_ForAllCustomers() {
+        webTestClient.get().uri("/api/rewards?startDate=2025-07-01&endDate=2025-07-31")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].customerName").isEqualTo("ManuTiwari")
+                .jsonPath("$[0].totalPoints").isEqualTo(10)
+                .jsonPath("$[1].customerName").isEqualTo("Satyam");
+    }
+
+    @Test
+    void shouldGroupCustomerNamesIgnoringCase_ForAllCustomers() {
+        insert("Zed", LocalDate.of(2025, 7, 4), 60.0);       // sorts between "Satyam" and "satyam" by case
+        insert("satyam", LocalDate.of(2025, 7, 5), 120.0);   // 90 points
+
+        webTestClient.get().uri("/api/rewards?startDate=2025-07-01&endDate=2025-07-31")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[1].customerName").isEqualTo("Satyam")
+                .jsonPath("$[1].totalPoints").isEqualTo(180)
+                .jsonPath("$[2].customerName").isEqualTo("Zed");
+    }
+
+    @Test
+    void shouldReturn404_ForUnknownCustomer() {
+        webTestClient.get().uri("/api/rewards/Unknown?startDate=2025-07-01&endDate=2025-07-31")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReturn400_ForInvalidDateFormat() {
+        webTestClient.get().uri("/api/rewards?startDate=07-01-2025&endDate=2025-07-06")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldReturn400_WhenStartDateAfterEndDate() {
+        webTestClient.get().uri("/api/rewards/Satyam?startDate=2025-07-31&endDate=2025-07-01")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,126 @@
+package com.rewardapp.rewardintegrationtest;
+
+import com.rewardapp.rewardentity.Transaction;
+import com.rewardapp.rewardrepository.TransactionRepository;
+import com.rewardapp.rewardservice.RewardRowEstimator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*This class contains integration tests for admission control on the rewards API:
+  per-client rate limits, date range span and estimated row count caps.
+  MockMvc requests come from 127.0.0.1, configured here as a trusted proxy so X-Client-Id separates the tests.*/
+@SpringBootTest(properties = {
+        "rewards.admission.rate.capacity=3",
+        "rewards.admission.rate.refill-per-second=0.01",
+        "rewards.admission.max-range-days=92",
+        "rewards.admission.max-estimated-rows=5",
+        "rewards.admission.trusted-proxies=127.0.0.1"
+})
+@AutoConfigureMockMvc
+class RewardAdmissionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private RewardRowEstimator rowEstimator;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transactions.add(new Transaction("Satyam", LocalDate.of(2025, 7, 1), 120.0));
+        }
+        repository.saveAll(transactions);
+        rowEstimator.refreshStats();
+    }
+
+    @Test
+    void shouldReturn429WithRetryAfter_WhenClientExceedsRate() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/rewards/Unknown").header("X-Client-Id", "rate-test")
+                            .param("startDate", "2025-06-01")
+                            .param("endDate", "2025-06-30"))
+                    .andExpect(status().isNotFound());
+        }
+
+        mockMvc.perform(get("/api/rewards/Unknown").header("X-Client-Id", "rate-test")
+                        .param("startDate", "2025-06-01")
+                        .param("endDate", "2025-06-30"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void shouldReturn429_WhenDateRangeTooLong() throws Exception {
+        mockMvc.perform(get("/api/rewards").header("X-Client-Id", "range-test")
+                        .param("startDate", "2015-01-01")
+                        .param("endDate", "2025-01-01"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"))
+                .andExpect(content().string(containsString("exceeds the limit of 92 days")));
+    }
+
+    @Test
+    void shouldReturn429_WhenEstimatedRowsTooHigh() throws Exception {
+        mockMvc.perform(get("/api/rewards").header("X-Client-Id", "rows-test")
+                        .param("startDate", "2025-07-01")
+                        .param("endDate", "2025-07-31"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void shouldLimitByRemoteAddress_WhenClientIdComesFromUntrustedCaller() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/rewards/Unknown").header("X-Client-Id", "rotating-" + i)
+                            .with(request -> { request.setRemoteAddr("10.0.0.9"); return request; })
+                            .param("startDate", "2025-06-01")
+                            .param("endDate", "2025-06-30"))
+                    .andExpect(status().isNotFound());
+        }
+
+        mockMvc.perform(get("/api/rewards/Unknown").header("X-Client-Id", "rotating-3")
+                        .with(request -> { request.setRemoteAddr("10.0.0.9"); return request; })
+                        .param("startDate", "2025-06-01")
+                        .param("endDate", "2025-06-30"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void shouldReturn429_WhenBatchDateRangeTooLong() throws Exception {
+        mockMvc.perform(post("/api/rewards/batch").header("X-Client-Id", "batch-range-test")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerNames\":[\"Satyam\"],\"startDate\":\"2015-01-01\",\"endDate\":\"2025-01-01\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().string(containsString("exceeds the limit of 92 days")));
+    }
+
+    @Test
+    void shouldReturn429_WhenBatchEstimatedRowsTooHigh() throws Exception {
+        mockMvc.perform(post("/api/rewards/batch").header("X-Client-Id", "batch-rows-test")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerNames\":[\"Satyam\"],\"startDate\":\"2025-07-01\",\"endDate\":\"2025-07-31\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().string(containsString("narrow the date range")));
+    }
+}
@@ -0,0 +1,192 @@
+package com.rewardapp.rewardintegrationtest;
+
+import com.rewardapp.rewardentity.MaterializationCheckpoint;
+import com.rewardapp.rewardentity.MaterializedReward;
+import com.rewardapp.rewardentity.Transaction;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardprogrammodel.TransactionModel;
+import com.rewardapp.rewardrepository.MaterializationCheckpointRepository;
+import com.rewardapp.rewardrepository.MaterializedRewardRepository;
+import com.rewardapp.rewardrepository.TransactionRepository;
+import com.rewardapp.rewardservice.MaterializedRewardService;
+import com.rewardapp.rewardservice.RewardMaterializationJob;
+import com.rewardapp.rewardservice.RewardService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*This class contains integration tests for the nightly reward materialization job:
+  chunked processing, resuming from a checkpoint, and serving GET requests from its results.*/
+@SpringBootTest(properties = "rewards.materialization.chunk-size=2")
+@AutoConfigureMockMvc
+class RewardMaterializationIntegrationTest {
+
+    private static final YearMonth MONTH = YearMonth.now().minusMonths(2);
+    private static final YearMonth NEXT_MONTH = MONTH.plusMonths(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RewardMaterializationJob job;
+
+    @Autowired
+    private MaterializedRewardService materializedRewardService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private MaterializedRewardRepository materializedRewardRepository;
+
+    @Autowired
+    private MaterializationCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAll();
+        materializedRewardRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        repository.saveAll(List.of(
+                new Transaction("Alice", MONTH.atDay(1), 120.0),      // 90 points
+                new Transaction("Bob", MONTH.atDay(5), 60.0),         // 10 points
+                new Transaction("Carol", MONTH.atEndOfMonth(), 75.0), // 25 points
+                new Transaction("Alice", NEXT_MONTH.atDay(3), 120.0)  // 90 points
+        ));
+    }
+
+    @Test
+    void shouldServeMaterializedRewards_AfterSourceRowsAreGone() throws Exception {
+        job.materializeClosedMonths();
+        assertTrue(checkpointRepository.findById(MONTH.toString()).orElseThrow().isCompleted());
+        assertTrue(checkpointRepository.findById(NEXT_MONTH.toString()).orElseThrow().isCompleted());
+
+        repository.deleteAll();
+
+        mockMvc.perform(get("/api/rewards/alice")
+                        .param("startDate", MONTH.atDay(1).toString())
+                        .param("endDate", NEXT_MONTH.atEndOfMonth().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalPoints").value(180))
+                .andExpect(jsonPath("$.transactions.length()").value(2));
+
+        mockMvc.perform(get("/api/rewards")
+                        .param("startDate", MONTH.atDay(1).toString())
+                        .param("endDate", MONTH.atEndOfMonth().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[2].customerName").value("Carol"))
+                .andExpect(jsonPath("$[2].totalPoints").value(25));
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() {
+        checkpointRepository.save(new MaterializationCheckpoint(MONTH.toString(), "alice", false, LocalDateTime.now(),
+                null, null, null, null));
+
+        job.materializeClosedMonths();
+
+        List<String> customers = materializedRewardRepository.findAll().stream()
+                .filter(row -> row.getRewardMonth().equals(MONTH.toString()))
+                .map(MaterializedReward::getCustomerKey).sorted().toList();
+        assertEquals(List.of("bob", "carol"), customers, "Customers up to the checkpoint should be skipped");
+        assertTrue(checkpointRepository.findById(MONTH.toString()).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void shouldSkipMonth_WhileAnotherInstanceHoldsItsLease() {
+        checkpointRepository.save(new MaterializationCheckpoint(MONTH.toString(), "other-instance",
+                LocalDateTime.now().plusMinutes(10)));
+
+        job.materializeClosedMonths();
+
+        assertTrue(materializedRewardRepository.findAll().stream()
+                .noneMatch(row -> row.getRewardMonth().equals(MONTH.toString())));
+        assertFalse(checkpointRepository.findById(MONTH.toString()).orElseThrow().isCompleted());
+        assertTrue(checkpointRepository.findById(NEXT_MONTH.toString()).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void shouldTakeOverMonth_WhenLeaseExpired() {
+        checkpointRepository.save(new MaterializationCheckpoint(MONTH.toString(), "crashed-instance",
+                LocalDateTime.now().minusMinutes(1)));
+
+        job.materializeClosedMonths();
+
+        MaterializationCheckpoint checkpoint = checkpointRepository.findById(MONTH.toString()).orElseThrow();
+        assertTrue(checkpoint.isCompleted());
+        assertNull(checkpoint.getLeaseOwner(), "Lease should be released when the month completes");
+    }
+
+    @Test
+    void shouldRematerializeMonth_WhenBackdatedTransactionArrives() throws Exception {
+        job.materializeClosedMonths();
+        repository.save(new Transaction("Dave", MONTH.atDay(10), 120.0)); // 90 points
+
+        assertEquals(List.of(MONTH), materializedRewardService.pendingClosedMonths(12),
+                "Only the month with the new transaction should be pending again");
+        job.materializeClosedMonths();
+
+        assertTrue(checkpointRepository.findById(MONTH.toString()).orElseThrow().isCompleted());
+        repository.deleteAll();
+        mockMvc.perform(get("/api/rewards/dave")
+                        .param("startDate", MONTH.atDay(1).toString())
+                        .param("endDate", MONTH.atEndOfMonth().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalPoints").value(90));
+    }
+
+    @Test
+    void shouldReturnSameAllCustomerRewards_LiveAndMaterialized_ForMixedCaseNames() {
+        repository.saveAll(List.of(
+                new Transaction("bob", MONTH.atDay(20), 120.0),
+                new Transaction("BOB", NEXT_MONTH.atDay(7), 75.0),
+                new Transaction("alice", NEXT_MONTH.atDay(1), 60.0)
+        ));
+
+        List<RewardSummary> live = rewardService.getAllCustomerRewards(MONTH.atDay(1), NEXT_MONTH.atEndOfMonth());
+        job.materializeClosedMonths();
+        List<RewardSummary> materialized = rewardService.getAllCustomerRewards(MONTH.atDay(1),
+                NEXT_MONTH.atEndOfMonth());
+
+        assertTrue(materializedRewardService.isMaterialized(MONTH.atDay(1), NEXT_MONTH.atEndOfMonth()));
+        assertEquals(List.of("Alice", "Bob", "Carol"), live.stream().map(RewardSummary::getCustomerName).toList());
+        assertEquals(List.of(90 + 90 + 10, 10 + 90 + 25, 25),
+                live.stream().map(RewardSummary::getTotalPoints).toList(), "Each spelling should be counted once");
+        assertEquals(sortedTransactions(live), sortedTransactions(materialized));
+    }
+
+    @Test
+    void shouldQueryLive_WhenRangeIsNotWholeMonths() throws Exception {
+        job.materializeClosedMonths();
+        repository.deleteAll();
+
+        mockMvc.perform(get("/api/rewards/Alice")
+                        .param("startDate", MONTH.atDay(2).toString())
+                        .param("endDate", MONTH.atEndOfMonth().toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    /* Transaction order inside a summary is not part of the contract */
+    private static List<RewardSummary> sortedTransactions(List<RewardSummary> summaries) {
+        summaries.forEach(summary -> summary.getTransactions().sort(Comparator.comparing(TransactionModel::getDate)
+                .thenComparing(TransactionModel::getCustomerName)));
+        return summaries;
+    }
+}
@@ -0,0 +1,81 @@
+package com.rewardapp.rewardperformancetest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/*Closed-loop HTTP load generator: a fixed number of workers each send the next request
+  as soon as the previous one returns, and every request latency is recorded.*/
+public class LoadTestHarness {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final int concurrency;
+
+    public LoadTestHarness(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /* Responses with any other status than the scenario accepts are counted as errors */
+    public LoadResult run(String name, int requests, Set<Integer> acceptedStatuses,
+                          IntFunction<HttpRequest> requestFactory) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            long started = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        HttpRequest request = requestFactory.apply(i);
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - sent;
+                        if (!acceptedStatuses.contains(response.statusCode())) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - started;
+            Arrays.sort(latencies);
+            return new LoadResult(name, requests, elapsed, latencies, errors.get(), concurrency);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    public record LoadResult(String name, int requests, long elapsedNanos, long[] sortedLatencies, int errors,
+                             int concurrency) {
+
+        public double throughput() {
+            return requests / (elapsedNanos / 1e9);
+        }
+
+        public double percentileMillis(double p) {
+            int index = Math.min(sortedLatencies.length - 1, (int) Math.ceil(p * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %9.1f req/s  p50 %8.2f ms  p99 %8.2f ms  p999 %8.2f ms  (%d requests, %d errors, concurrency %d)",
+                    name, throughput(), percentileMillis(0.50), percentileMillis(0.99), percentileMillis(0.999),
+                    requests, errors, concurrency);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.rewardapp.rewardperformancetest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/*Stores throughput and latency per scenario in a properties file, and compares a new run
+  against it: slower p50/p99/p999 or lower throughput beyond the threshold is a regression.
+  A percentile is only compared when both runs have at least ten samples beyond it (20 requests for p50,
+  1000 for p99, 10000 for p999); with fewer it is decided by one or two outliers and would fail at random.*/
+public class PerformanceBaseline {
+
+    private static final int SAMPLES_BEYOND_PERCENTILE = 10;
+    private static final Map<String, Double> PERCENTILES = Map.of(".p50_ms", 0.50, ".p99_ms", 0.99, ".p999_ms", 0.999);
+
+    private final Properties values = new Properties();
+
+    public void record(LoadTestHarness.LoadResult result) {
+        values.setProperty(result.name() + ".requests", String.valueOf(result.requests()));
+        values.setProperty(result.name() + ".throughput", String.format(Locale.ROOT, "%.1f", result.throughput()));
+        values.setProperty(result.name() + ".p50_ms", String.format(Locale.ROOT, "%.2f", result.percentileMillis(0.50)));
+        values.setProperty(result.name() + ".p99_ms", String.format(Locale.ROOT, "%.2f", result.percentileMillis(0.99)));
+        values.setProperty(result.name() + ".p999_ms", String.format(Locale.ROOT, "%.2f", result.percentileMillis(0.999)));
+    }
+
+    public static PerformanceBaseline load(Path file) throws IOException {
+        PerformanceBaseline baseline = new PerformanceBaseline();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            baseline.values.load(reader);
+        }
+        return baseline;
+    }
+
+    public void save(Path file, String comment) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            values.store(writer, comment);
+        }
+    }
+
+    /* Regressions of current against this baseline; metrics missing from the baseline are skipped */
+    public List<String> regressions(PerformanceBaseline current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (String key : current.values.stringPropertyNames()) {
+            String expected = values.getProperty(key);
+            if (expected == null || key.endsWith(".requests")
+                    || !enoughSamples(key, current) || !enoughSamples(key, this)) {
+                continue;
+            }
+            double before = Double.parseDouble(expected);
+            double now = Double.parseDouble(current.values.getProperty(key));
+            boolean regressed = key.endsWith(".throughput") ? now < before * (1 - threshold)
+                    : now > before * (1 + threshold);
+            if (regressed) {
+                regressions.add(String.format(Locale.ROOT, "%s: baseline %.2f, now %.2f", key, before, now));
+            }
+        }
+        regressions.sort(null);
+        return regressions;
+    }
+
+    /* Throughput is always compared; baselines written before request counts were stored count as enough */
+    private static boolean enoughSamples(String key, PerformanceBaseline run) {
+        for (Map.Entry<String, Double> percentile : PERCENTILES.entrySet()) {
+            if (key.endsWith(percentile.getKey())) {
+                String requests = run.values.getProperty(
+                        key.substring(0, key.length() - percentile.getKey().length()) + ".requests");
+                return requests == null
+                        || Integer.parseInt(requests) * (1 - percentile.getValue()) >= SAMPLES_BEYOND_PERCENTILE;
+            }
+        }
+        return true;
+    }
+}
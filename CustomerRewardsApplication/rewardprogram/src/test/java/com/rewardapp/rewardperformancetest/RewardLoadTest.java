@@ -0,0 +1,134 @@
+package com.rewardapp.rewardperformancetest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*Performance regression suite: loads synthetic transactions into an in-memory H2 database at each
+  configured scale, drives both GET endpoints and the ingest endpoint over HTTP, and compares
+  throughput and p50/p99/p999 against the saved baseline. The first run (or -Drewards.load.update-baseline=true)
+  writes the baseline; later runs fail on regressions beyond rewards.load.threshold.
+
+  Opt-in: mvn test -Dtest=RewardLoadTest -Drewards.load=true [-Drewards.load.scales=10k,1M,10M]
+  The 10M scale has not been run yet; it should need several GB of heap for H2, e.g. -DargLine=-Xmx8g.*/
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rewardload;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=16", "rewards.admission.enabled=false" })
+@EnabledIfSystemProperty(named = "rewards.load", matches = "true")
+class RewardLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("rewards.load.concurrency", 16);
+    private static final int SINGLE_CUSTOMER_REQUESTS = Integer.getInteger("rewards.load.single-requests", 2_000);
+    private static final int ALL_CUSTOMER_REQUESTS = Integer.getInteger("rewards.load.all-requests", 20);
+    private static final int ALL_CUSTOMER_DAYS = Integer.getInteger("rewards.load.all-customers-days", 30);
+    private static final int INGEST_REQUESTS = Integer.getInteger("rewards.load.ingest-requests", 2_000);
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("rewards.load.threshold", "0.20"));
+    private static final Path BASELINE = Path.of(System.getProperty("rewards.load.baseline", "load-baseline.properties"));
+    private static final Path RESULTS = Path.of("target", "load-test", "results.properties");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SyntheticTransactionGenerator generator = new SyntheticTransactionGenerator(
+            Integer.getInteger("rewards.load.customers", 1_000), LocalDate.of(2025, 1, 1), 365,
+            75.0, 0.6, Double.parseDouble(System.getProperty("rewards.load.skew", "1.0")), 42L);
+
+    private final LoadTestHarness harness = new LoadTestHarness(CONCURRENCY);
+
+    @Test
+    void rewardEndpointsStayWithinBaseline() throws Exception {
+        PerformanceBaseline current = new PerformanceBaseline();
+        for (String scale : System.getProperty("rewards.load.scales", "10k").split(",")) {
+            jdbcTemplate.execute("TRUNCATE TABLE transactions");
+            long loadStarted = System.nanoTime();
+            generator.insert(jdbcTemplate, rows(scale.trim()));
+            System.out.printf("%s rows loaded in %.1f s%n", scale, (System.nanoTime() - loadStarted) / 1e9);
+
+            for (LoadTestHarness.LoadResult result : runScenarios(scale.trim())) {
+                assertEquals(0, result.errors(), result.name());
+                current.record(result);
+                System.out.println(result);
+            }
+        }
+        current.save(RESULTS, "Reward load test results");
+
+        if (!Files.exists(BASELINE) || Boolean.getBoolean("rewards.load.update-baseline")) {
+            current.save(BASELINE, "Reward load test baseline");
+            System.out.println("Baseline written to " + BASELINE.toAbsolutePath());
+            return;
+        }
+        List<String> regressions = PerformanceBaseline.load(BASELINE).regressions(current, THRESHOLD);
+        assertTrue(regressions.isEmpty(), "Regressions beyond " + (int) (THRESHOLD * 100) + "%: " + regressions);
+    }
+
+    private List<LoadTestHarness.LoadResult> runScenarios(String scale) throws Exception {
+        String base = "http://localhost:" + port + "/api/rewards";
+        String range = "?startDate=" + generator.startDate() + "&endDate=" + generator.endDate();
+        String recentRange = "?startDate=" + generator.endDate().minusDays(ALL_CUSTOMER_DAYS - 1L) + "&endDate="
+                + generator.endDate();
+
+        // requests follow the same customer skew as the data, and are reproducible per request index
+        IntFunction<HttpRequest> single = i -> get(base + "/"
+                + generator.customerName(generator.nextCustomer(new SplittableRandom(i))) + range);
+        IntFunction<HttpRequest> all = i -> get(base + recentRange);
+        IntFunction<HttpRequest> ingest = i -> {
+            var tx = generator.nextTransaction(new SplittableRandom(i));
+            String body = String.format(Locale.ROOT, "{\"customerName\":\"%s\",\"date\":\"%s\",\"amount\":%.2f}",
+                    tx.getCustomerName(), tx.getDate(), tx.getAmount());
+            return HttpRequest.newBuilder(URI.create(base + "/transaction"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        };
+
+        // tail customers of a skewed mix may have no rows in the range, so 404 is a valid answer there only
+        Set<Integer> customerFound = Set.of(200, 404);
+        Set<Integer> ok = Set.of(200);
+        Set<Integer> created = Set.of(201);
+
+        List<LoadTestHarness.LoadResult> results = new ArrayList<>();
+        harness.run("warmup", Math.max(1, SINGLE_CUSTOMER_REQUESTS / 10), customerFound, single);
+        results.add(harness.run(scale + ".get_customer", SINGLE_CUSTOMER_REQUESTS, customerFound, single));
+        harness.run("warmup", Math.max(1, ALL_CUSTOMER_REQUESTS / 10), ok, all);
+        results.add(harness.run(scale + ".get_all_customers", ALL_CUSTOMER_REQUESTS, ok, all));
+        harness.run("warmup", Math.max(1, INGEST_REQUESTS / 10), created, ingest);
+        results.add(harness.run(scale + ".ingest", INGEST_REQUESTS, created, ingest));
+        return results;
+    }
+
+    /* 10k, 1M, 10M or a plain row count */
+    private static long rows(String scale) {
+        String upper = scale.toUpperCase(Locale.ROOT);
+        if (upper.endsWith("K")) {
+            return Long.parseLong(upper.substring(0, upper.length() - 1)) * 1_000;
+        }
+        if (upper.endsWith("M")) {
+            return Long.parseLong(upper.substring(0, upper.length() - 1)) * 1_000_000;
+        }
+        return Long.parseLong(upper);
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.rewardapp.rewardperformancetest;
+
+import com.rewardapp.RewardProgramApplication;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*Runs the same closed-loop HTTP load against the servlet (JPA) and reactive (R2DBC) stacks,
+  both reading the same in-memory H2 database with equal pool sizes, and prints throughput and latency percentiles.
+  Opt-in, and needs the reactive Maven profile: mvn -Preactive test -Dtest=RewardStackLoadComparisonTest -Drewards.benchmark=true*/
+@EnabledIfSystemProperty(named = "rewards.benchmark", matches = "true")
+class RewardStackLoadComparisonTest {
+
+    private static final int CUSTOMERS = 200;
+    private static final int TRANSACTIONS_PER_CUSTOMER = 50;
+    private static final int CONCURRENCY = 16;
+    private static final int POOL_SIZE = 16;
+    private static final int SINGLE_CUSTOMER_REQUESTS = 2_000;
+    private static final int ALL_CUSTOMER_REQUESTS = 50;
+    private static final Set<Integer> OK = Set.of(200);
+    private static final String DATE_RANGE = "startDate=2025-01-01&endDate=2025-12-31";
+
+    private final LoadTestHarness harness = new LoadTestHarness(CONCURRENCY);
+
+    @Test
+    void compareServletAndReactiveStacks() throws Exception {
+        ConfigurableApplicationContext servlet = new SpringApplicationBuilder(RewardProgramApplication.class)
+                .properties("server.port=0", "spring.datasource.url=jdbc:h2:mem:rewardbench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE, "rewards.admission.enabled=false")
+                .run();
+        ConfigurableApplicationContext reactive = null;
+        try {
+            seed(servlet.getBean(JdbcTemplate.class));
+            reactive = new SpringApplicationBuilder(RewardProgramApplication.class).profiles("reactive")
+                    .properties("server.port=0", "spring.r2dbc.url=r2dbc:h2:mem:///rewardbench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                            "spring.r2dbc.pool.max-size=" + POOL_SIZE)
+                    .run();
+
+            for (ConfigurableApplicationContext app : List.of(servlet, reactive)) {
+                String stack = app == servlet ? "servlet " : "reactive";
+                String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/api/rewards";
+                IntFunction<HttpRequest> single = i -> get(base + "/Customer"
+                        + ThreadLocalRandom.current().nextInt(CUSTOMERS) + "?" + DATE_RANGE);
+                IntFunction<HttpRequest> all = i -> get(base + "?" + DATE_RANGE);
+
+                harness.run("warmup", SINGLE_CUSTOMER_REQUESTS / 10, OK, single);
+                report(stack, harness.run("GET /{customer}", SINGLE_CUSTOMER_REQUESTS, OK, single));
+                harness.run("warmup", ALL_CUSTOMER_REQUESTS / 10, OK, all);
+                report(stack, harness.run("GET all", ALL_CUSTOMER_REQUESTS, OK, all));
+            }
+        } finally {
+            if (reactive != null) {
+                reactive.close();
+            }
+            servlet.close();
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int c = 0; c < CUSTOMERS; c++) {
+            for (int t = 0; t < TRANSACTIONS_PER_CUSTOMER; t++) {
+                rows.add(new Object[] { "Customer" + c, Date.valueOf(LocalDate.of(2025, 1, 1).plusDays(t * 7)),
+                        20.0 + (c * 31 + t * 17) % 200 });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions (customer_name, date, amount) VALUES (?, ?, ?)", rows);
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private void report(String stack, LoadTestHarness.LoadResult result) {
+        assertEquals(0, result.errors(), result.name());
+        System.out.println(stack + " " + result);
+    }
+}
@@ -0,0 +1,178 @@
+package com.rewardapp.rewardperformancetest;
+
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*Starts the packaged service as a separate JVM and measures time to the first successful request and
+  resident memory (VmRSS) at that point, for the current configuration and the faststart profile with
+  AOT and a CDS archive recorded from a training run. Every JVM reads the same H2 file database.
+
+  Opt-in, after building the AOT processed jar:
+  mvn -Pfaststart package -DskipTests && mvn test -Dtest=StartupMeasurementTest -Drewards.startup=true*/
+@EnabledIfSystemProperty(named = "rewards.startup", matches = "true")
+@EnabledOnOs(OS.LINUX)
+class StartupMeasurementTest {
+
+    private static final int RUNS = Integer.getInteger("rewards.startup.runs", 3);
+    private static final Duration FIRST_REQUEST_TIMEOUT = Duration.ofMinutes(2);
+    private static final Path WORK_DIR = Path.of("target", "startup-measurement").toAbsolutePath();
+    private static final String MAIN_CLASS = "com.rewardapp.RewardProgramApplication";
+    private static final String DB_URL = "jdbc:h2:file:" + WORK_DIR.resolve("db/rewardprogram");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void measureTimeToFirstRequestAndRss() throws Exception {
+        String classpath = extractApplication() + File.pathSeparator
+                + Path.of(Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path archive = WORK_DIR.resolve("application.jsa");
+        Files.deleteIfExists(archive);
+        try (Stream<Path> files = Files.list(Files.createDirectories(WORK_DIR.resolve("db")))) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        // the current configuration creates the schema that faststart only validates, nothing is stored yet
+        start(classpath, List.of(), List.of(), 404).stop();
+        seed();
+
+        List<String> faststart = List.of("--spring.profiles.active=faststart");
+        List<String> aot = List.of("-Dspring.aot.enabled=true");
+        List<String> results = new ArrayList<>();
+        results.add(measure("current", classpath, List.of(), List.of()));
+        results.add(measure("faststart", classpath, List.of(), faststart));
+        results.add(measure("faststart + AOT", classpath, aot, faststart));
+
+        start(classpath, List.of("-Dspring.aot.enabled=true", "-XX:ArchiveClassesAtExit=" + archive), faststart, 200)
+                .stop();
+        assertTrue(Files.exists(archive), "training run did not write " + archive);
+        results.add(measure("faststart + AOT + CDS", classpath,
+                List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive), faststart));
+
+        System.out.printf("%-24s %22s %12s%n", "configuration", "first request (median)", "RSS (median)");
+        results.forEach(System.out::println);
+    }
+
+    private String measure(String name, String classpath, List<String> jvmArgs, List<String> appArgs) throws Exception {
+        long[] millis = new long[RUNS];
+        long[] rssKb = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            Started started = start(classpath, jvmArgs, appArgs, 200);
+            millis[run] = started.firstRequestMillis;
+            rssKb[run] = started.rssKb;
+            started.stop();
+        }
+        Arrays.sort(millis);
+        Arrays.sort(rssKb);
+        return String.format("%-24s %19d ms %9d MB", name, millis[RUNS / 2], rssKb[RUNS / 2] / 1024);
+    }
+
+    private Started start(String classpath, List<String> jvmArgs, List<String> appArgs, int expectedStatus)
+            throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS, "--server.port=" + port,
+                "--spring.datasource.url=" + DB_URL, "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        command.addAll(appArgs);
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(WORK_DIR.toFile())
+                .redirectErrorStream(true).redirectOutput(WORK_DIR.resolve("service.out").toFile()).start();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                + "/api/rewards/Customer1?startDate=2025-01-01&endDate=2025-12-31")).GET().build();
+        while (true) {
+            assertTrue(process.isAlive(), "service exited, see " + WORK_DIR.resolve("service.out"));
+            assertTrue(System.nanoTime() - launched < FIRST_REQUEST_TIMEOUT.toNanos(), "no successful request");
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == expectedStatus) {
+                    break;
+                }
+            } catch (ConnectException notListeningYet) {
+                // keep polling
+            }
+            Thread.sleep(10);
+        }
+        long firstRequestMillis = (System.nanoTime() - launched) / 1_000_000;
+        return new Started(process, firstRequestMillis, rssKb(process.pid()));
+    }
+
+    private Path extractApplication() throws Exception {
+        Path jar;
+        try (Stream<Path> jars = Files.list(Path.of("target"))) {
+            jar = jars.filter(p -> p.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("run mvn -Pfaststart package -DskipTests first"));
+        }
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            assertTrue(jarFile.stream().anyMatch(e -> e.getName().endsWith("__ApplicationContextInitializer.class")),
+                    jar + " is not AOT processed, run mvn -Pfaststart package -DskipTests first");
+        }
+        Files.createDirectories(WORK_DIR);
+        Process extract = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(), "extract", "--force", "--destination",
+                WORK_DIR.resolve("application").toString()).inheritIO().start();
+        assertTrue(extract.waitFor() == 0, "could not extract " + jar);
+        return WORK_DIR.resolve("application").resolve(jar.getFileName());
+    }
+
+    private void seed() throws Exception {
+        try (Connection connection = DriverManager.getConnection(DB_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO transactions (customer_name, date, amount) VALUES "
+                    + "('Customer1', DATE '2025-03-01', 120.0), ('Customer1', DATE '2025-04-12', 75.5)");
+        }
+    }
+
+    private static long rssKb(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private record Started(Process process, long firstRequestMillis, long rssKb) {
+
+        /* SIGTERM, so the JVM exits normally and writes the CDS archive in the training run */
+        void stop() throws InterruptedException {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
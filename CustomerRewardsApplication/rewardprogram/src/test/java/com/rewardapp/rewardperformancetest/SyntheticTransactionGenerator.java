@@ -0,0 +1,105 @@
+package com.rewardapp.rewardperformancetest;
+
+import com.rewardapp.rewardprogrammodel.TransactionModel;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/*Reproducible generator of synthetic transactions for load and performance tests.
+
+  Customers are picked with a Zipf distribution (skew 0 is uniform, around 1 gives a few
+  very hot customers), dates uniformly over the span, and amounts from a log-normal
+  distribution around the median. The same seed always produces the same rows.*/
+public class SyntheticTransactionGenerator {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private final int customers;
+    private final LocalDate startDate;
+    private final int days;
+    private final double amountMedian;
+    private final double amountSigma;
+    private final long seed;
+    private final double[] customerCdf;
+
+    public SyntheticTransactionGenerator(int customers, LocalDate startDate, int days, double amountMedian,
+                                         double amountSigma, double skew, long seed) {
+        this.customers = customers;
+        this.startDate = startDate;
+        this.days = days;
+        this.amountMedian = amountMedian;
+        this.amountSigma = amountSigma;
+        this.seed = seed;
+        this.customerCdf = zipfCdf(customers, skew);
+    }
+
+    public static SyntheticTransactionGenerator defaults() {
+        return new SyntheticTransactionGenerator(1_000, LocalDate.of(2025, 1, 1), 365, 75.0, 0.6, 1.0, 42L);
+    }
+
+    public int customers() {
+        return customers;
+    }
+
+    public LocalDate startDate() {
+        return startDate;
+    }
+
+    public LocalDate endDate() {
+        return startDate.plusDays(days - 1L);
+    }
+
+    public String customerName(int index) {
+        return "Customer" + index;
+    }
+
+    /* Customer index drawn with the configured skew, so request mixes can follow the data */
+    public int nextCustomer(SplittableRandom random) {
+        int index = Arrays.binarySearch(customerCdf, random.nextDouble());
+        return Math.min(customers - 1, index < 0 ? -index - 1 : index);
+    }
+
+    public TransactionModel nextTransaction(SplittableRandom random) {
+        return new TransactionModel(customerName(nextCustomer(random)), startDate.plusDays(random.nextInt(days)),
+                nextAmount(random), 0);
+    }
+
+    /* Inserts rows in batches, so row counts far beyond the heap size are fine */
+    public void insert(JdbcTemplate jdbcTemplate, long rows) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long i = 0; i < rows; i++) {
+            TransactionModel tx = nextTransaction(random);
+            batch.add(new Object[] { tx.getCustomerName(), Date.valueOf(tx.getDate()), tx.getAmount() });
+            if (batch.size() == INSERT_BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO transactions (customer_name, date, amount) VALUES (?, ?, ?)",
+                        batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private double nextAmount(SplittableRandom random) {
+        double amount = Math.exp(Math.log(amountMedian) + amountSigma * random.nextGaussian());
+        return Math.round(amount * 100) / 100.0;
+    }
+
+    private static double[] zipfCdf(int customers, double skew) {
+        double[] cdf = new double[customers];
+        double total = 0;
+        for (int i = 0; i < customers; i++) {
+            total += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = total;
+        }
+        for (int i = 0; i < customers; i++) {
+            cdf[i] /= total;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,108 @@
+package com.rewardapp.rewardperformancetest;
+
+import com.rewardapp.rewardentity.Transaction;
+import com.rewardapp.rewardprogrammodel.TransactionView;
+import com.rewardapp.rewardrepository.TransactionRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*Compares heap retained and load time per 100k rows for managed Transaction entities
+  versus read-only TransactionView projections.
+  Opt-in: mvn test -Dtest=TransactionLoadBenchmarkTest -Drewards.benchmark=true*/
+@SpringBootTest
+@EnabledIfSystemProperty(named = "rewards.benchmark", matches = "true")
+class TransactionLoadBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int ITERATIONS = 5;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setup() {
+        repository.deleteAllInBatch();
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] { "Customer" + (i % 1000), Date.valueOf(START.plusDays(i % 365)), 20.0 + (i % 200) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions (customer_name, date, amount) VALUES (?, ?, ?)", rows);
+    }
+
+    @Test
+    void compareEntityAndProjectionLoading() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Result entities = measure(readWrite, () -> entityManager
+                .createQuery("SELECT t FROM Transaction t WHERE t.date BETWEEN :start AND :end", Transaction.class)
+                .setParameter("start", START).setParameter("end", END).getResultList());
+        Result projections = measure(readOnly, () -> repository.findByDateBetween(START, END));
+
+        System.out.printf("Managed entities (read-write): %6.1f ms, %6.1f MB retained per %d rows%n",
+                entities.millis, entities.megabytes, ROWS);
+        System.out.printf("TransactionView (read-only):  %6.1f ms, %6.1f MB retained per %d rows%n",
+                projections.millis, projections.megabytes, ROWS);
+    }
+
+    private Result measure(TransactionTemplate template, Supplier<List<?>> query) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        double totalMillis = 0;
+        double totalMegabytes = 0;
+        for (int i = 0; i <= ITERATIONS; i++) {
+            boolean warmup = i == 0;
+            double[] sample = template.execute(status -> {
+                System.gc();
+                long heapBefore = memory.getHeapMemoryUsage().getUsed();
+                long started = System.nanoTime();
+                List<?> rows = query.get();
+                long elapsed = System.nanoTime() - started;
+                // measured while the transaction, and so the persistence context, is still open
+                System.gc();
+                long retained = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+                assertEquals(ROWS, rows.size());
+                return new double[] { elapsed / 1_000_000.0, retained / (1024.0 * 1024.0) };
+            });
+            entityManager.clear();
+            if (!warmup) {
+                totalMillis += sample[0];
+                totalMegabytes += sample[1];
+            }
+        }
+        return new Result(totalMillis / ITERATIONS, totalMegabytes / ITERATIONS);
+    }
+
+    private record Result(double millis, double megabytes) {
+    }
+}
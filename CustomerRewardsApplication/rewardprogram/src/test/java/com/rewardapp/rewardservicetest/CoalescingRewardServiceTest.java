@@ -0,0 +1,169 @@
+package com.rewardapp.rewardservicetest;
+
+import com.rewardapp.rewardexception.CustomerNotFoundException;
+import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardservice.CoalescingRewardService;
+import com.rewardapp.rewardservice.RewardServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+This class contains unit tests for `CoalescingRewardService`, 
+validating that concurrent identical reward lookups share one computation.
+
+ */
+class CoalescingRewardServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 7, 1);
+    private static final LocalDate END = LocalDate.of(2025, 7, 31);
+    private static final int CALLERS = 8;
+
+    private RewardServiceImpl delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingRewardService service;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(RewardServiceImpl.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CoalescingRewardService(delegate, meterRegistry, 5_000);
+    }
+
+    @Test
+    void shouldShareOneComputation_ForConcurrentIdenticalRequests() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getSpecificCustomerRewards(anyString(), eq(START), eq(END))).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new RewardSummary("Satyam", 90, null, null);
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        List<Future<RewardSummary>> results = new ArrayList<>();
+        results.add(callers.submit(() -> service.getSpecificCustomerRewards("Satyam", START, END)));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(callers.submit(() -> service.getSpecificCustomerRewards("Satyam", START, END)));
+        }
+        while (coalescedCount("customer") < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        Set<RewardSummary> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<RewardSummary> result : results) {
+            RewardSummary summary = result.get(5, TimeUnit.SECONDS);
+            assertEquals("Satyam", summary.getCustomerName());
+            assertEquals(90, summary.getTotalPoints());
+            instances.add(summary);
+        }
+        callers.shutdown();
+        assertEquals(CALLERS, instances.size(), "Every caller should get its own copy of the result");
+
+        verify(delegate, times(1)).getSpecificCustomerRewards(anyString(), eq(START), eq(END));
+        assertEquals(CALLERS - 1, coalescedCount("customer"));
+    }
+
+    @Test
+    void shouldKeepRequestedSpelling_ForDifferentlyCasedNames() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getSpecificCustomerRewards(anyString(), eq(START), eq(END))).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new RewardSummary(invocation.getArgument(0), 90, null, null);
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<RewardSummary> first = callers.submit(() -> service.getSpecificCustomerRewards("Satyam", START, END));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        Future<RewardSummary> second = callers.submit(() -> service.getSpecificCustomerRewards("SATYAM", START, END));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals("Satyam", first.get(5, TimeUnit.SECONDS).getCustomerName());
+        assertEquals("SATYAM", second.get(5, TimeUnit.SECONDS).getCustomerName());
+        callers.shutdown();
+        assertEquals(0, coalescedCount("customer"));
+    }
+
+    @Test
+    void shouldReleaseKey_WhenLeaderThrowsError() {
+        when(delegate.getAllCustomerRewards(START, END)).thenThrow(new StackOverflowError()).thenReturn(List.of());
+
+        assertThrows(StackOverflowError.class, () -> service.getAllCustomerRewards(START, END));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> service.getAllCustomerRewards(START, END));
+        verify(delegate, times(2)).getAllCustomerRewards(START, END);
+    }
+
+    @Test
+    void shouldQueryDirectly_WhenLeaderExceedsWaitTimeout() throws Exception {
+        service = new CoalescingRewardService(delegate, meterRegistry, 50);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getSpecificCustomerRewards("Satyam", START, END)).thenAnswer(invocation -> {
+            leaderStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new RewardSummary("Satyam", 90, null, null);
+        }).thenReturn(new RewardSummary("Satyam", 90, null, null));
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        Future<RewardSummary> leader = callers.submit(() -> service.getSpecificCustomerRewards("Satyam", START, END));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        assertEquals(90, service.getSpecificCustomerRewards("Satyam", START, END).getTotalPoints());
+        release.countDown();
+        assertEquals(90, leader.get(5, TimeUnit.SECONDS).getTotalPoints());
+        callers.shutdown();
+
+        verify(delegate, times(2)).getSpecificCustomerRewards("Satyam", START, END);
+        assertEquals(1, meterRegistry.get("rewards.query.requests").tag("outcome", "wait_timed_out").counter().count());
+    }
+
+    @Test
+    void shouldNotRetainResult_AfterCompletion() {
+        when(delegate.getAllCustomerRewards(START, END)).thenReturn(List.of());
+
+        service.getAllCustomerRewards(START, END);
+        service.getAllCustomerRewards(START, END);
+
+        verify(delegate, times(2)).getAllCustomerRewards(START, END);
+        assertEquals(0, coalescedCount("all"));
+    }
+
+    @Test
+    void shouldPropagateLeaderException() {
+        when(delegate.getSpecificCustomerRewards("Unknown", START, END))
+                .thenThrow(new CustomerNotFoundException("Unknown"));
+
+        assertThrows(CustomerNotFoundException.class, () -> service.getSpecificCustomerRewards("Unknown", START, END));
+        assertThrows(CustomerNotFoundException.class, () -> service.getSpecificCustomerRewards("Unknown", START, END));
+        verify(delegate, times(2)).getSpecificCustomerRewards("Unknown", START, END);
+    }
+
+    private double coalescedCount(String query) {
+        return meterRegistry.get("rewards.query.requests").tag("query", query).tag("outcome", "coalesced").counter()
+                .count();
+    }
+}
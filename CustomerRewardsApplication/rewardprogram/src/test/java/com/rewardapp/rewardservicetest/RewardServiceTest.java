@@ -1,11 +1,13 @@
 package com.rewardapp.rewardservicetest;
 
-import com.rewardapp.rewardentity.Transaction;
 import com.rewardapp.rewardexception.CustomerNotFoundException;
 import com.rewardapp.rewardexception.InvalidDateRangeException;
 import com.rewardapp.rewardexception.RewardCalculationException;
+import com.rewardapp.rewardprogrammodel.BatchRewardSummary;
 import com.rewardapp.rewardprogrammodel.RewardSummary;
+import com.rewardapp.rewardprogrammodel.TransactionView;
 import com.rewardapp.rewardrepository.TransactionRepository;
+import com.rewardapp.rewardservice.MaterializedRewardService;
 import com.rewardapp.rewardservice.RewardServiceImpl;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.*;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +37,9 @@ class RewardServiceTest {
     @Mock
     private TransactionRepository repository;
 
+    @Mock
+    private MaterializedRewardService materializedRewards;
+
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
@@ -42,8 +49,8 @@ class RewardServiceTest {
     void shouldReturnRewardSummary_WhenValidTransactionExists() {
         LocalDate start = LocalDate.of(2025, 7, 1);
         LocalDate end = LocalDate.of(2025, 7, 6);
-        List<Transaction> transactions = List.of(
-                new Transaction("Satyam", start, 120.0)
+        List<TransactionView> transactions = List.of(
+                new TransactionView("Satyam", start, 120.0)
         );
 
         when(repository.findByCustomerNameIgnoreCaseAndDateBetween("Satyam", start, end))
@@ -60,24 +67,36 @@ class RewardServiceTest {
         LocalDate start = LocalDate.of(2025, 7, 1);
         LocalDate end = LocalDate.of(2025, 7, 6);
 
-        List<Transaction> allTransactions = List.of(
-                new Transaction("Satyam", start, 120.0),
-                new Transaction("ManuTiwari", start, 60.0)
+        List<TransactionView> allTransactions = List.of(
+                new TransactionView("Satyam", start, 120.0),
+                new TransactionView("ManuTiwari", start, 60.0)
         );
 
         when(repository.findByDateBetween(start, end)).thenReturn(allTransactions);
 
-        when(repository.findByCustomerNameIgnoreCaseAndDateBetween(eq("Satyam"), eq(start), eq(end)))
-                .thenReturn(List.of(new Transaction("Satyam", start, 120.0)));
-
-        when(repository.findByCustomerNameIgnoreCaseAndDateBetween(eq("ManuTiwari"), eq(start), eq(end)))
-                .thenReturn(List.of(new Transaction("ManuTiwari", start, 60.0)));
-
         List<RewardSummary> summaries = rewardService.getAllCustomerRewards(start, end);
 
         assertEquals(2, summaries.size(), "Should return two reward summaries");
         assertTrue(summaries.stream().anyMatch(r -> r.getCustomerName().equals("Satyam")));
         assertTrue(summaries.stream().anyMatch(r -> r.getCustomerName().equals("ManuTiwari")));
+        verify(repository, never()).findByCustomerNameIgnoreCaseAndDateBetween(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldMergeCustomerNamesIgnoringCase_ForAllCustomers() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 6);
+
+        when(repository.findByDateBetween(start, end)).thenReturn(List.of(
+                new TransactionView("Satyam", start, 120.0),
+                new TransactionView("satyam", end, 60.0)));
+
+        List<RewardSummary> summaries = rewardService.getAllCustomerRewards(start, end);
+
+        assertEquals(1, summaries.size());
+        assertEquals("Satyam", summaries.get(0).getCustomerName());
+        assertEquals(100, summaries.get(0).getTotalPoints());
+        assertEquals(2, summaries.get(0).getTransactions().size());
     }
 
     @Test
@@ -92,8 +111,8 @@ class RewardServiceTest {
 
     @Test
     void shouldThrowRewardCalculationException_WhenTransactionHasNegativeAmount() {
-        List<Transaction> transactions = List.of(
-                new Transaction("ManuTiwari", LocalDate.now(), -100.0)
+        List<TransactionView> transactions = List.of(
+                new TransactionView("ManuTiwari", LocalDate.now(), -100.0)
         );
 
         when(repository.findByCustomerNameIgnoreCaseAndDateBetween(anyString(), any(), any()))
@@ -120,9 +139,9 @@ class RewardServiceTest {
         LocalDate date1 = LocalDate.of(2025, 7, 1);
         LocalDate date2 = LocalDate.of(2025, 8, 2);
 
-        List<Transaction> transactions = List.of(
-                new Transaction("Satyam", date1, 120.0),
-                new Transaction("Satyam", date2, 75.0)
+        List<TransactionView> transactions = List.of(
+                new TransactionView("Satyam", date1, 120.0),
+                new TransactionView("Satyam", date2, 75.0)
         );
 
         when(repository.findByCustomerNameIgnoreCaseAndDateBetween(eq("Satyam"), any(), any()))
@@ -137,7 +156,7 @@ class RewardServiceTest {
 
     @Test
     void shouldHandleTransactionWithZeroAmount() {
-        Transaction tx = new Transaction("Satyam", LocalDate.of(2025, 7, 1), 0.0);
+        TransactionView tx = new TransactionView("Satyam", LocalDate.of(2025, 7, 1), 0.0);
 
         when(repository.findByCustomerNameIgnoreCaseAndDateBetween(eq("Satyam"), any(), any()))
                 .thenReturn(List.of(tx));
@@ -155,4 +174,48 @@ class RewardServiceTest {
         assertThrows(CustomerNotFoundException.class, () ->
                 rewardService.getAllCustomerRewards(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 10)));
     }
+
+    @Test
+    void shouldReturnBatchRewards_AndReportMissingCustomersInline() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+
+        when(repository.findByCustomerNamesAndDateBetween(List.of("satyam", "manutiwari", "unknown"), start, end))
+                .thenReturn(List.of(
+                        new TransactionView("Satyam", start, 120.0),
+                        new TransactionView("ManuTiwari", start, 60.0),
+                        new TransactionView("Satyam", end, 75.0)
+                ));
+
+        BatchRewardSummary batch = rewardService.getBatchCustomerRewards(
+                List.of("Satyam", "ManuTiwari", "Unknown", "SATYAM"), start, end);
+
+        assertEquals(2, batch.getRewards().size(), "Duplicate names should be looked up once");
+        assertEquals(115, batch.getRewards().get("Satyam").getTotalPoints());
+        assertEquals(10, batch.getRewards().get("ManuTiwari").getTotalPoints());
+        assertEquals(List.of("Unknown"), batch.getNotFoundCustomers());
+        verify(repository, times(1)).findByCustomerNamesAndDateBetween(anyCollection(), eq(start), eq(end));
+        verify(repository, never()).findByCustomerNameIgnoreCaseAndDateBetween(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldQueryBatchInChunksOf500_WhenMoreCustomersRequested() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        List<String> customers = IntStream.range(0, 501).mapToObj(i -> "Customer" + i).toList();
+
+        when(repository.findByCustomerNamesAndDateBetween(anyCollection(), eq(start), eq(end)))
+                .thenReturn(List.of(new TransactionView("Customer0", start, 120.0)))
+                .thenReturn(List.of(new TransactionView("Customer500", end, 75.0)));
+
+        BatchRewardSummary batch = rewardService.getBatchCustomerRewards(customers, start, end);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(2)).findByCustomerNamesAndDateBetween(chunks.capture(), eq(start), eq(end));
+        assertEquals(500, chunks.getAllValues().get(0).size());
+        assertEquals(List.of("customer500"), List.copyOf(chunks.getAllValues().get(1)));
+        assertEquals(2, batch.getRewards().size());
+        assertEquals(499, batch.getNotFoundCustomers().size());
+    }
 }
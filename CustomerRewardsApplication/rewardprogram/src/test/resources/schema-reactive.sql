@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS transactions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    customer_name VARCHAR(255),
+    date DATE,
+    amount DOUBLE NOT NULL
+);